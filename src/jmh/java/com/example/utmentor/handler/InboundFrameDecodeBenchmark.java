@@ -0,0 +1,65 @@
+package com.example.utmentor.handler;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Decoding an inbound {@code /ws} frame: the handler's typed {@link InboundMessage} reader
+ * against the untyped {@code Map} read it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InboundFrameDecodeBenchmark {
+
+    private static final Map<String, String> FRAMES = Map.of(
+            "ack", "{\"type\":\"ACK_NOTIFICATIONS\",\"seq\":12345}",
+            "markRead", "{\"type\":\"MARK_NOTIFICATIONS_AS_READ\",\"ids\":"
+                    + "[\"66f1c0a1e4b0a1b2c3d4e5f6\",\"66f1c0a1e4b0a1b2c3d4e5f7\",\"66f1c0a1e4b0a1b2c3d4e5f8\"]}",
+            "join", "{\"type\":\"JOIN_COMMUNITY\",\"communityId\":\"community-42\"}",
+            "unknown", "{\"type\":\"PING\",\"at\":1729212345678}");
+
+    @Param({"ack", "markRead", "join", "unknown"})
+    private String frame;
+
+    private String payload;
+
+    private ObjectReader typedReader;
+
+    private ObjectMapper untypedMapper;
+
+    @Setup
+    public void setUp() {
+        payload = FRAMES.get(frame);
+        typedReader = new WebSocketHandler().getInboundReader();
+        untypedMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public InboundMessage typed() throws Exception {
+        return typedReader.readValue(payload);
+    }
+
+    @Benchmark
+    public Map<?, ?> untypedMap() throws Exception {
+        return untypedMapper.readValue(payload, Map.class);
+    }
+}
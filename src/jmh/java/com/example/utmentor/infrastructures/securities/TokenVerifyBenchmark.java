@@ -0,0 +1,71 @@
+package com.example.utmentor.infrastructures.securities;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Verifying an access token per request: a parser built for every call (as before), the shared
+ * parser in {@link JwtService}, and a hit in {@link VerifiedTokenCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenVerifyBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-0123456789";
+
+    private SecretKey secretKey;
+
+    private JwtService jwtService;
+
+    private VerifiedTokenCache tokenCache;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtService = new JwtService(SECRET, "utmentor", 15);
+        tokenCache = new VerifiedTokenCache(jwtService, new SimpleMeterRegistry(), 10_000, 900);
+        token = jwtService.generateToken("2212345", Map.of("roles", List.of("STUDENT", "TUTOR")), false);
+        tokenCache.verify(token);
+    }
+
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return jwtService.parseAndValidate(token);
+    }
+
+    @Benchmark
+    public VerifiedTokenCache.VerifiedToken cachedVerify() {
+        return tokenCache.verify(token);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.utmentor.config.Mongo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+
+import com.example.utmentor.models.docEntities.Rating;
+import com.example.utmentor.models.docEntities.Connection.Connection;
+import com.example.utmentor.models.docEntities.HCMUT_DATACORE.Datacore;
+import com.example.utmentor.models.docEntities.Mail.OutboundEmail;
+import com.example.utmentor.models.docEntities.Notification.Notification;
+import com.example.utmentor.models.docEntities.Otp.OtpCode;
+import com.example.utmentor.models.docEntities.users.TutorProfile;
+import com.example.utmentor.models.docEntities.users.TutorSearchView;
+import com.example.utmentor.models.docEntities.users.User;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Creates the annotated indexes of entities whose queries depend on them,
+ * independent of {@code spring.data.mongodb.auto-index-creation}.
+ * A unique index that existing data would violate is logged and skipped rather than failing
+ * startup; clean up the reported duplicates and restart to build it.
+ */
+@Configuration
+@DependsOn("connectionDuplicateBackfill") // unique student_tutor index needs the duplicates gone first
+public class MongoIndexConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexConfig.class);
+
+    private static final int DUPLICATE_SAMPLE_SIZE = 5;
+
+    private static final List<Class<?>> INDEXED_ENTITIES = List.of(
+            Connection.class,
+            Datacore.class,
+            Notification.class,
+            OtpCode.class,
+            OutboundEmail.class,
+            Rating.class,
+            TutorProfile.class,
+            TutorSearchView.class,
+            User.class
+    );
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoIndexConfig(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @PostConstruct
+    public void ensureIndexes() {
+        IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> entity : INDEXED_ENTITIES) {
+            IndexOperations indexOps = mongoTemplate.indexOps(entity);
+            Set<String> existing = indexOps.getIndexInfo().stream()
+                    .map(IndexInfo::getName)
+                    .collect(Collectors.toSet());
+            for (IndexDefinition index : resolver.resolveIndexFor(entity)) {
+                if (isImplicitOrEmbedded(index)) {
+                    continue;
+                }
+                if (!existing.contains(indexName(index)) && isUnique(index) && hasDuplicates(entity, index)) {
+                    continue;
+                }
+                indexOps.createIndex(index);
+            }
+        }
+    }
+
+    /**
+     * {@code @Indexed} on the id maps to the built-in _id index, which Mongo refuses to redeclare
+     * as unique; and an embedded {@code @Document} (e.g. Datacore's tutorProfile) brings along
+     * its own collection's indexes under a dotted name, which are not wanted here.
+     */
+    private static boolean isImplicitOrEmbedded(IndexDefinition index) {
+        Set<String> keys = index.getIndexKeys().keySet();
+        String name = indexName(index);
+        return keys.equals(Set.of("_id")) || (name != null && name.contains("."));
+    }
+
+    private static String indexName(IndexDefinition index) {
+        Object name = index.getIndexOptions().get("name");
+        return name != null ? name.toString() : null;
+    }
+
+    private static boolean isUnique(IndexDefinition index) {
+        return Boolean.TRUE.equals(index.getIndexOptions().get("unique"));
+    }
+
+    /**
+     * Looks for documents that share the index's key, the same check the index build would fail on.
+     */
+    private boolean hasDuplicates(Class<?> entity, IndexDefinition index) {
+        Document groupKey = new Document();
+        Document present = new Document();
+        for (String field : index.getIndexKeys().keySet()) {
+            groupKey.append(field.replace('.', '_'), "$" + field);
+            present.append(field, new Document("$exists", true));
+        }
+        List<Document> pipeline = new ArrayList<>();
+        if (Boolean.TRUE.equals(index.getIndexOptions().get("sparse"))) {
+            pipeline.add(new Document("$match", present));
+        }
+        pipeline.add(new Document("$group", new Document("_id", groupKey).append("count", new Document("$sum", 1))));
+        pipeline.add(new Document("$match", new Document("count", new Document("$gt", 1))));
+        pipeline.add(new Document("$limit", DUPLICATE_SAMPLE_SIZE));
+
+        List<Document> duplicates = mongoTemplate.getCollection(mongoTemplate.getCollectionName(entity))
+                .aggregate(pipeline)
+                .allowDiskUse(true)
+                .into(new ArrayList<>());
+        if (duplicates.isEmpty()) {
+            return false;
+        }
+        logger.error("Not creating unique index {} on {}: existing documents share its key, e.g. {}. "
+                        + "Remove the duplicates and restart to build it.",
+                indexName(index), mongoTemplate.getCollectionName(entity),
+                duplicates.stream().map(duplicate -> duplicate.get("_id")).toList());
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.utmentor.config.WebSocket;
 
 import com.example.utmentor.handler.WebSocketHandler;
+import com.example.utmentor.infrastructures.securities.JwtHandshakeInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
@@ -12,13 +13,18 @@ public class WebSocketConfig implements WebSocketConfigurer {
 
     private final WebSocketHandler WebSocketHandler;
 
-    public WebSocketConfig(WebSocketHandler chatWebSocketHandler) {
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+    public WebSocketConfig(WebSocketHandler chatWebSocketHandler,
+                           JwtHandshakeInterceptor jwtHandshakeInterceptor) {
         this.WebSocketHandler = chatWebSocketHandler;
+        this.jwtHandshakeInterceptor = jwtHandshakeInterceptor;
     }
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         registry.addHandler(WebSocketHandler, "/ws")
+                .addInterceptors(jwtHandshakeInterceptor)
                 .setAllowedOriginPatterns("http://localhost:5173");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package com.example.utmentor.handler;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Frames a client may send over {@code /ws}, decoded straight from JSON by their {@code type} field.
+ * A missing or unrecognised type decodes to {@link Unknown} instead of failing.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type", defaultImpl = InboundMessage.Unknown.class)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = InboundMessage.MarkNotificationsAsRead.class, name = "MARK_NOTIFICATIONS_AS_READ"),
+        @JsonSubTypes.Type(value = InboundMessage.AckNotifications.class, name = "ACK_NOTIFICATIONS"),
+        @JsonSubTypes.Type(value = InboundMessage.JoinCommunity.class, name = "JOIN_COMMUNITY"),
+        @JsonSubTypes.Type(value = InboundMessage.LeaveCommunity.class, name = "LEAVE_COMMUNITY")
+})
+public sealed interface InboundMessage {
+
+    enum Type {
+        MARK_NOTIFICATIONS_AS_READ,
+        ACK_NOTIFICATIONS,
+        JOIN_COMMUNITY,
+        LEAVE_COMMUNITY,
+        UNKNOWN
+    }
+
+    Type type();
+
+    record MarkNotificationsAsRead(List<String> ids) implements InboundMessage {
+        public Type type() {
+            return Type.MARK_NOTIFICATIONS_AS_READ;
+        }
+    }
+
+    record AckNotifications(Long seq) implements InboundMessage {
+        public Type type() {
+            return Type.ACK_NOTIFICATIONS;
+        }
+    }
+
+    record JoinCommunity(String communityId) implements InboundMessage {
+        public Type type() {
+            return Type.JOIN_COMMUNITY;
+        }
+    }
+
+    record LeaveCommunity(String communityId) implements InboundMessage {
+        public Type type() {
+            return Type.LEAVE_COMMUNITY;
+        }
+    }
+
+    record Unknown() implements InboundMessage {
+        public Type type() {
+            return Type.UNKNOWN;
+        }
+    }
+}
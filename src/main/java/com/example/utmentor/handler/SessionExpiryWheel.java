@@ -0,0 +1,56 @@
+package com.example.utmentor.handler;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.utmentor.util.HashedTimingWheel;
+
+/**
+ * Closes WebSocket sessions when the access token they were opened with expires.
+ * All sessions share one timing wheel advanced by a single scheduled tick.
+ */
+@Component
+public class SessionExpiryWheel {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionExpiryWheel.class);
+
+    private static final String TIMEOUT_ATTRIBUTE = "ws.expiryTimeout";
+
+    static final CloseStatus TOKEN_EXPIRED = CloseStatus.POLICY_VIOLATION.withReason("Token expired");
+
+    private final HashedTimingWheel<WebSocketSession> wheel =
+            new HashedTimingWheel<>(1000, 512, System.currentTimeMillis());
+
+    public void closeAt(WebSocketSession session, Instant expiresAt) {
+        session.getAttributes().put(TIMEOUT_ATTRIBUTE, wheel.schedule(session, expiresAt.toEpochMilli()));
+    }
+
+    public void cancel(WebSocketSession session) {
+        if (session.getAttributes().remove(TIMEOUT_ATTRIBUTE) instanceof HashedTimingWheel.Timeout<?> timeout) {
+            timeout.cancel();
+        }
+    }
+
+    @Scheduled(fixedRate = 1000)
+    public void tick() {
+        wheel.advance(System.currentTimeMillis(), this::expire);
+    }
+
+    private void expire(WebSocketSession session) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.close(TOKEN_EXPIRED);
+        } catch (IOException e) {
+            logger.warn("Failed to close expired WebSocket session {}", session.getId(), e);
+        }
+    }
+}
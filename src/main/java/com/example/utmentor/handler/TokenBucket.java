@@ -0,0 +1,34 @@
+package com.example.utmentor.handler;
+
+/**
+ * Per-session inbound rate limit: holds up to {@code capacity} tokens and refills
+ * {@code refillPerSecond} tokens per second. Refill is computed lazily on acquire.
+ */
+final class TokenBucket {
+
+    private final double capacity;
+
+    private final double refillPerNano;
+
+    private double tokens;
+
+    private long lastRefill;
+
+    TokenBucket(int capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
@@ -1,139 +1,360 @@
 package com.example.utmentor.handler;
 
+import com.example.utmentor.infrastructures.notification.NotificationDispatcher;
 import com.example.utmentor.infrastructures.repository.Interface.NotificationRepository;
+import com.example.utmentor.infrastructures.securities.JwtHandshakeInterceptor;
+import com.example.utmentor.models.docEntities.Notification.Notification;
 import com.example.utmentor.models.webModels.notification.NotificationResponse;
-import com.example.utmentor.services.NotificationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import jakarta.annotation.PreDestroy;
 
 @Component
 @Setter
 @Getter
 public class WebSocketHandler extends TextWebSocketHandler {
 
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketHandler.class);
+
+    private static final String OUTBOUND_ATTRIBUTE = "ws.outbound";
+
+    private static final String INBOUND_BUCKET_ATTRIBUTE = "ws.inboundBucket";
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final ObjectReader inboundReader = objectMapper.readerFor(InboundMessage.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
 
-    private final Map<String, Set<String>> communityMembers = new ConcurrentHashMap<>();
+    private final Map<InboundMessage.Type, InboundRoute> routes = new EnumMap<>(InboundMessage.Type.class);
+
+    {
+        routes.put(InboundMessage.Type.MARK_NOTIFICATIONS_AS_READ,
+                (session, userId, message) -> handleMarkAsRead(userId, (InboundMessage.MarkNotificationsAsRead) message));
+        routes.put(InboundMessage.Type.ACK_NOTIFICATIONS,
+                (session, userId, message) -> handleAck(userId, (InboundMessage.AckNotifications) message));
+        routes.put(InboundMessage.Type.JOIN_COMMUNITY,
+                (session, userId, message) -> handleJoinCommunity(session, userId, (InboundMessage.JoinCommunity) message));
+        routes.put(InboundMessage.Type.LEAVE_COMMUNITY,
+                (session, userId, message) -> handleLeaveCommunity(session, userId, (InboundMessage.LeaveCommunity) message));
+        routes.put(InboundMessage.Type.UNKNOWN,
+                (session, userId, message) -> sendError(session, "Unknown message type"));
+    }
 
-    private final Map<String, Set<String>> userCommunities = new ConcurrentHashMap<>();
+    @Autowired
+    private WebSocketSessionRegistry sessionRegistry;
 
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private SessionExpiryWheel sessionExpiryWheel;
+
+    @Value("${notification.replay.batch-size:200}")
+    private int replayBatchSize;
 
-    private String getUserId(WebSocketSession session){
+    @Value("${websocket.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.inbound.burst:20}")
+    private int inboundBurst;
+
+    @Value("${websocket.inbound.rate-per-second:10}")
+    private double inboundRatePerSecond;
+
+    // virtual threads: requires JDK 21 (java.version in pom.xml)
+    private final ExecutorService broadcastExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+
+    /**
+     * The JWT subject validated at handshake by {@link JwtHandshakeInterceptor}.
+     */
+    private String getUserId(WebSocketSession session) {
+        Object principal = session.getAttributes().get(JwtHandshakeInterceptor.PRINCIPAL_ATTRIBUTE);
+        return principal instanceof String userId ? userId : null;
+    }
+
+    private Long getLastSeq(WebSocketSession session) {
         URI uri = session.getUri();
-        if (uri != null) {
-            String query = session.getUri().getQuery();
-            if (query != null && query.contains("userId=")) {
-                String[] parmas = query.split("&");
-                for (String param : parmas) {
-                    if (param.contains("userId=")) {
-                        return param.split("=")[1];
-                    }
+        if (uri == null || uri.getQuery() == null) {
+            return null;
+        }
+        for (String param : uri.getQuery().split("&")) {
+            if (param.startsWith("lastSeq=")) {
+                try {
+                    return Long.parseLong(param.substring("lastSeq=".length()));
+                } catch (NumberFormatException e) {
+                    return null;
                 }
             }
         }
-        return session.getId();
-
+        return null;
     }
 
     public void sendMessage (WebSocketSession session, Map<String, Object> data) throws IOException {
         String message = objectMapper.writeValueAsString(data);
-        session.sendMessage(new TextMessage(message));
+        outbound(session).sendMessage(new TextMessage(message));
+    }
+
+    /**
+     * The session's send-buffering decorator, which is safe for concurrent senders and
+     * terminates the session when its buffer or send time limit is exceeded.
+     */
+    private WebSocketSession outbound(WebSocketSession session) {
+        Object decorated = session.getAttributes().get(OUTBOUND_ATTRIBUTE);
+        return decorated instanceof WebSocketSession outbound ? outbound : session;
+    }
+
+    public void sendUnreadCount(String userId, long unread) throws IOException {
+        sendToUser(userId, Map.of(
+                "type", "UNREAD_COUNT",
+                "count", unread));
+    }
+
+    /**
+     * Sends to every open session of the user, serializing the payload once.
+     *
+     * @return number of sessions the message was written to
+     */
+    public int sendToUser(String userId, Map<String, Object> data) throws IOException {
+        TextMessage message = new TextMessage(objectMapper.writeValueAsString(data));
+        int delivered = 0;
+        for (WebSocketSession session : sessionRegistry.sessionsOf(userId)) {
+            if (!session.isOpen()) {
+                continue;
+            }
+            try {
+                session.sendMessage(message);
+                delivered++;
+            } catch (SessionLimitExceededException e) {
+                evict(session, e);
+            } catch (IOException e) {
+                logger.warn("Failed to send to session {} of user {}", session.getId(), userId, e);
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Sends one payload to every session of every member of the community. The payload is
+     * serialized once and shared; each session write runs on its own virtual thread through the
+     * session's bounded buffer, so a slow consumer is evicted instead of stalling the others.
+     *
+     * @return number of sessions the message was handed to
+     */
+    public int broadcastToCommunity(String communityId, Map<String, Object> data) throws IOException {
+        TextMessage message = new TextMessage(objectMapper.writeValueAsString(data));
+        int queued = 0;
+        for (String memberId : sessionRegistry.membersOf(communityId)) {
+            for (WebSocketSession session : sessionRegistry.sessionsOf(memberId)) {
+                if (!session.isOpen()) {
+                    continue;
+                }
+                broadcastExecutor.execute(() -> {
+                    try {
+                        session.sendMessage(message);
+                    } catch (SessionLimitExceededException e) {
+                        evict(session, e);
+                    } catch (IOException e) {
+                        logger.warn("Broadcast to session {} failed", session.getId(), e);
+                    }
+                });
+                queued++;
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * Closes a session whose send buffer or send time limit was exceeded;
+     * afterConnectionClosed then removes it from the registry.
+     */
+    private void evict(WebSocketSession session, SessionLimitExceededException reason) {
+        logger.info("Evicting slow WebSocket session {}: {}", session.getId(), reason.getMessage());
+        try {
+            session.close(reason.getStatus());
+        } catch (IOException e) {
+            sessionRegistry.unregister(session);
+        }
+    }
+
+    @PreDestroy
+    public void shutdownBroadcasts() {
+        broadcastExecutor.shutdownNow();
+    }
+
+    /**
+     * Sends everything after the client's last acknowledged sequence in one frame, along with
+     * anything below it that was stored late and never acknowledged.
+     * The client may pass {@code lastSeq} on the URL; otherwise the server-side ack is used.
+     */
+    private void replayMissedNotifications(WebSocketSession session, String userId) {
+        Long lastSeq = getLastSeq(session);
+        long afterSeq = lastSeq != null ? lastSeq : notificationRepository.findAckedSeq(userId);
+        List<Notification> missed = notificationRepository.findForReplay(userId, afterSeq, replayBatchSize + 1);
+        if (missed.isEmpty() || !session.isOpen()) {
+            return;
+        }
+        boolean hasMore = missed.size() > replayBatchSize;
+        List<NotificationResponse> batch = missed.stream()
+                .limit(replayBatchSize)
+                .map(notification -> NotificationResponse.from(notification, "Thông báo"))
+                .toList();
+        try {
+            sendMessage(session, Map.of(
+                    "type", "NOTIFICATION_BATCH",
+                    "notifications", batch,
+                    "lastSeq", batch.get(batch.size() - 1).seq(),
+                    "hasMore", hasMore));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         String userId = getUserId(session);
+        Object expiresAt = session.getAttributes().get(JwtHandshakeInterceptor.EXPIRES_AT_ATTRIBUTE);
 
-        if (userId == null || userId.isBlank() || userId.equals("undefined")) {
-            System.out.println("Closing invalid WebSocket session, userId=" + userId);
-            session.close();
+        if (userId == null || userId.isBlank() || !(expiresAt instanceof Instant expiry)) {
+            System.out.println("Closing unauthenticated WebSocket session " + session.getId());
+            session.close(CloseStatus.POLICY_VIOLATION);
             return;
         }
+        if (!expiry.isAfter(Instant.now())) {
+            session.close(SessionExpiryWheel.TOKEN_EXPIRED);
+            return;
+        }
+
+        WebSocketSession outbound = new ConcurrentWebSocketSessionDecorator(
+                session, sendTimeLimitMs, sendBufferSizeLimit,
+                ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+        session.getAttributes().put(OUTBOUND_ATTRIBUTE, outbound);
+        session.getAttributes().put(INBOUND_BUCKET_ATTRIBUTE, new TokenBucket(inboundBurst, inboundRatePerSecond));
+        sessionRegistry.register(userId, outbound);
+        sessionExpiryWheel.closeAt(session, expiry);
 
-        sessions.put(userId, session);
-        userCommunities.putIfAbsent(userId, ConcurrentHashMap.newKeySet());
+        // same lane as the user's new notifications, so a replay never interleaves with a push
+        notificationDispatcher.submitOrdered(userId, "replay " + userId, () -> replayMissedNotifications(session, userId));
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
-        String payload = message.getPayload();
-        Map<String, Object> data = objectMapper.readValue(payload, Map.class);
-        String type = (String) data.get("type");
-        switch (type) {
-            case "MARK_NOTIFICATIONS_AS_READ":
-                notificationRepository.markAsRead((List<String>) data.get("ids"));
-                break;
-            case "JOIN_COMMUNITY":
-                handleJoinCommunity(session, data);
-                break;
-            case "LEAVE_COMMUNITY":
-                handleLeaveCommunity(session, data);
-                break;
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        sessionExpiryWheel.cancel(session);
+        sessionRegistry.unregister(session);
+    }
 
-            default:
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        sessionExpiryWheel.cancel(session);
+        sessionRegistry.unregister(session);
+        if (session.isOpen()) {
+            session.close(CloseStatus.SERVER_ERROR);
         }
     }
 
-    private void handleLeaveCommunity(WebSocketSession session, Map<String, Object> data) throws IOException {
-        String userId = getUserId(session);
-        String communityId = (String) data.get("communityId");
-        if ( communityId == null || communityId.isEmpty() ) {
-            sendMessage(session, Map.of(
-                        "type", "ERROR",
-                        "message", "communityId is required"));
+    @Override
+    public void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        if (session.getAttributes().get(INBOUND_BUCKET_ATTRIBUTE) instanceof TokenBucket bucket
+                && !bucket.tryAcquire()) {
+            logger.debug("Dropping inbound message from rate-limited session {}", session.getId());
             return;
         }
-        Set<String> members = communityMembers.get(communityId);
-        if ( members != null ) {
+        InboundMessage inbound;
+        try {
+            inbound = inboundReader.readValue(message.getPayload());
+        } catch (JsonProcessingException e) {
+            sendError(session, "Malformed message");
+            return;
+        }
+        // a bare "null" frame decodes to null rather than to Unknown
+        InboundRoute route = inbound != null && inbound.type() != null ? routes.get(inbound.type()) : null;
+        if (route == null) {
+            sendError(session, "Malformed message");
+            return;
+        }
+        route.handle(session, getUserId(session), inbound);
+    }
 
-            members.remove(userId);
+    @FunctionalInterface
+    private interface InboundRoute {
+        void handle(WebSocketSession session, String userId, InboundMessage message) throws IOException;
+    }
 
-            Set<String> communities = userCommunities.get(userId);
-            if ( communities != null ) {
-                communities.remove(communityId);
-            }
-            System.out.println("User " + userId + " left community: " + communityId);
+    private void sendError(WebSocketSession session, String message) throws IOException {
+        sendMessage(session, Map.of(
+                "type", "ERROR",
+                "message", message));
+    }
+
+    private void handleMarkAsRead(String userId, InboundMessage.MarkNotificationsAsRead message) throws IOException {
+        if (message.ids() == null || message.ids().isEmpty()) {
+            return;
         }
+        long unread = notificationRepository.markAsRead(userId, message.ids());
+        sendUnreadCount(userId, unread);
+    }
 
+    private void handleAck(String userId, InboundMessage.AckNotifications message) {
+        if (message.seq() != null) {
+            notificationRepository.ackSeq(userId, message.seq());
+        }
     }
 
-    private void handleJoinCommunity(WebSocketSession session, Map<String, Object> data) throws IOException {
-        String userId = getUserId(session);
-        String communityId = (String) data.get("communityId");
+    private void handleLeaveCommunity(WebSocketSession session, String userId,
+                                      InboundMessage.LeaveCommunity message) throws IOException {
+        String communityId = message.communityId();
         if (communityId == null || communityId.isEmpty()) {
-           sendMessage(session, Map.of(
-                   "type", "ERROR",
-                   "message", "communityId is required"));
-              return;
+            sendError(session, "communityId is required");
+            return;
+        }
+        if (sessionRegistry.leaveCommunity(userId, communityId)) {
+            System.out.println("User " + userId + " left community: " + communityId);
         }
-        communityMembers.putIfAbsent(communityId, ConcurrentHashMap.newKeySet());
-        communityMembers.get(communityId).add(userId);
+    }
 
-        userCommunities.putIfAbsent(userId, ConcurrentHashMap.newKeySet());
-        userCommunities.get(userId).add(communityId);
+    private void handleJoinCommunity(WebSocketSession session, String userId,
+                                     InboundMessage.JoinCommunity message) throws IOException {
+        String communityId = message.communityId();
+        if (communityId == null || communityId.isEmpty()) {
+            sendError(session, "communityId is required");
+            return;
+        }
+        sessionRegistry.joinCommunity(userId, communityId);
 
         sendMessage(session, Map.of(
                 "type", "JOINED_COMMUNITY",
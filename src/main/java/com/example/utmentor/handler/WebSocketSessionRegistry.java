@@ -0,0 +1,108 @@
+package com.example.utmentor.handler;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * Open WebSocket sessions per user (any number of tabs/devices) and community membership.
+ * Entries are removed as soon as they become empty, so a closed connection leaves nothing behind.
+ * Membership belongs to the user and is dropped when the user's last session closes.
+ */
+@Component
+public class WebSocketSessionRegistry {
+
+    private static final String USER_ID_ATTRIBUTE = "registry.userId";
+
+    // userId -> (sessionId -> session); keyed by id because callbacks get the raw session
+    // while the registry holds its send-buffering decorator
+    private final Map<String, Map<String, WebSocketSession>> sessionsByUser = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> communityMembers = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> userCommunities = new ConcurrentHashMap<>();
+
+    public void register(String userId, WebSocketSession session) {
+        session.getAttributes().put(USER_ID_ATTRIBUTE, userId);
+        sessionsByUser.compute(userId, (id, sessions) -> {
+            Map<String, WebSocketSession> result = sessions != null ? sessions : new ConcurrentHashMap<>();
+            result.put(session.getId(), session);
+            return result;
+        });
+    }
+
+    /**
+     * Safe to call more than once for the same session (close after transport error).
+     */
+    public void unregister(WebSocketSession session) {
+        Object userId = session.getAttributes().remove(USER_ID_ATTRIBUTE);
+        if (!(userId instanceof String id)) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(id, (key, sessions) -> {
+            sessions.remove(session.getId());
+            if (!sessions.isEmpty()) {
+                return sessions;
+            }
+            leaveAllCommunities(id);
+            return null;
+        });
+    }
+
+    public String userIdOf(WebSocketSession session) {
+        Object userId = session.getAttributes().get(USER_ID_ATTRIBUTE);
+        return userId instanceof String id ? id : null;
+    }
+
+    public Collection<WebSocketSession> sessionsOf(String userId) {
+        Map<String, WebSocketSession> sessions = sessionsByUser.get(userId);
+        return sessions != null ? sessions.values() : Set.of();
+    }
+
+    public void joinCommunity(String userId, String communityId) {
+        communityMembers.computeIfAbsent(communityId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+        userCommunities.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(communityId);
+    }
+
+    /**
+     * @return false if the user was not a member
+     */
+    public boolean leaveCommunity(String userId, String communityId) {
+        boolean[] removed = new boolean[1];
+        communityMembers.computeIfPresent(communityId, (id, members) -> {
+            removed[0] = members.remove(userId);
+            return members.isEmpty() ? null : members;
+        });
+        userCommunities.computeIfPresent(userId, (id, communities) -> {
+            communities.remove(communityId);
+            return communities.isEmpty() ? null : communities;
+        });
+        return removed[0];
+    }
+
+    public Collection<String> membersOf(String communityId) {
+        Set<String> members = communityMembers.get(communityId);
+        return members != null ? members : Set.of();
+    }
+
+    public int userCount() {
+        return sessionsByUser.size();
+    }
+
+    private void leaveAllCommunities(String userId) {
+        Set<String> communities = userCommunities.remove(userId);
+        if (communities == null) {
+            return;
+        }
+        for (String communityId : communities) {
+            communityMembers.computeIfPresent(communityId, (id, members) -> {
+                members.remove(userId);
+                return members.isEmpty() ? null : members;
+            });
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.utmentor.infrastructures.cache;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.models.docEntities.Connection.Connection;
+import com.example.utmentor.models.docEntities.Connection.StatusRequest;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Per-student map of tutorId to connection status, loaded with one query on first use.
+ * ConnectionRepository invalidates a student's entry on every connection write.
+ */
+@Component
+public class ConnectionStatusCache {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final LoadingCache<String, Map<String, StatusRequest>> statuses;
+
+    public ConnectionStatusCache(MongoTemplate mongoTemplate,
+                                 @Value("${connection.status-cache.ttl-seconds:300}") long ttlSeconds,
+                                 @Value("${connection.status-cache.max-size:10000}") long maxSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.statuses = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build(CacheLoader.from(this::load));
+    }
+
+    /**
+     * @return statuses of every connection the student has, keyed by tutorId; empty for a null student
+     */
+    public Map<String, StatusRequest> statusesFor(String studentId) {
+        if (studentId == null) {
+            return Map.of();
+        }
+        return statuses.getUnchecked(studentId);
+    }
+
+    public StatusRequest statusFor(String studentId, String tutorId) {
+        return statusesFor(studentId).get(tutorId);
+    }
+
+    public void invalidate(String studentId) {
+        if (studentId != null) {
+            statuses.invalidate(studentId);
+        }
+    }
+
+    private Map<String, StatusRequest> load(String studentId) {
+        Query query = new Query(Criteria.where("studentId").is(studentId));
+        query.fields().include("tutorId", "status");
+        return mongoTemplate.find(query, Connection.class).stream()
+                .filter(connection -> connection.getTutorId() != null && connection.getStatus() != null)
+                .collect(Collectors.toUnmodifiableMap(
+                        Connection::getTutorId, Connection::getStatus, (first, second) -> first));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.utmentor.infrastructures.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.infrastructures.search.TutorProfileChangedEvent;
+import com.example.utmentor.infrastructures.search.TutorProfilesProvisionedEvent;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Short-lived cache of aggregation totals keyed by filter signature,
+ * so pages 2..N of a listing can skip the count entirely.
+ */
+@Component
+public class PageTotalCache {
+
+    public static final String TUTOR_SEARCH_PREFIX = "tutor-search:";
+
+    public static final String TUTOR_REVIEWS_PREFIX = "tutor-reviews:";
+
+    public static final String DATACORE_PREFIX = "datacore:";
+
+    private final Cache<String, Long> totals;
+
+    public PageTotalCache(@Value("${paging.total-cache.ttl-seconds:30}") long ttlSeconds,
+                          @Value("${paging.total-cache.max-size:10000}") long maxSize) {
+        this.totals = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    public Long get(String key) {
+        return totals.getIfPresent(key);
+    }
+
+    public void put(String key, long total) {
+        totals.put(key, total);
+    }
+
+    public void invalidate(String key) {
+        totals.invalidate(key);
+    }
+
+    public void invalidatePrefix(String prefix) {
+        totals.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    @EventListener
+    public void onTutorProfileChanged(TutorProfileChangedEvent event) {
+        invalidatePrefix(TUTOR_SEARCH_PREFIX);
+    }
+
+    @EventListener
+    public void onTutorProfilesProvisioned(TutorProfilesProvisionedEvent event) {
+        invalidatePrefix(TUTOR_SEARCH_PREFIX);
+    }
+}
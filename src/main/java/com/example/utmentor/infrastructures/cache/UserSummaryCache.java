@@ -0,0 +1,98 @@
+package com.example.utmentor.infrastructures.cache;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.infrastructures.repository.Interface.UserRepository;
+import com.example.utmentor.models.docEntities.users.UserSummary;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+/**
+ * Read-through cache of {@link UserSummary} by id, with a secondary username-to-id index.
+ * Absent users are not cached. Every service that writes user fields calls {@link #invalidate}.
+ */
+@Component
+public class UserSummaryCache {
+
+    private final UserRepository userRepository;
+
+    private final Cache<String, UserSummary> byId;
+
+    private final Cache<String, String> idByUsername;
+
+    public UserSummaryCache(UserRepository userRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${user.summary-cache.ttl-seconds:600}") long ttlSeconds,
+                            @Value("${user.summary-cache.max-size:20000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.byId = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        this.idByUsername = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, byId, "user.summary");
+        GuavaCacheMetrics.monitor(meterRegistry, idByUsername, "user.summary.username");
+    }
+
+    public Optional<UserSummary> findById(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        UserSummary cached = byId.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return userRepository.findById(userId)
+                .map(UserSummary::from)
+                .map(this::put);
+    }
+
+    public Optional<UserSummary> findByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        String userId = idByUsername.getIfPresent(username);
+        if (userId != null) {
+            UserSummary cached = byId.getIfPresent(userId);
+            // the index may outlive a rename; only trust it when the summary still agrees
+            if (cached != null && username.equals(cached.username())) {
+                return Optional.of(cached);
+            }
+            idByUsername.invalidate(username);
+        }
+        return userRepository.findByUsername(username)
+                .map(UserSummary::from)
+                .map(this::put);
+    }
+
+    public void invalidate(String userId) {
+        if (userId == null) {
+            return;
+        }
+        UserSummary removed = byId.getIfPresent(userId);
+        byId.invalidate(userId);
+        if (removed != null && removed.username() != null) {
+            idByUsername.invalidate(removed.username());
+        }
+    }
+
+    private UserSummary put(UserSummary summary) {
+        byId.put(summary.id(), summary);
+        if (summary.username() != null) {
+            idByUsername.put(summary.username(), summary.id());
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.utmentor.infrastructures.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain-text mail templates with {@code {{name}}} placeholders. Each template is split into
+ * literal and placeholder parts once, when the enum is initialised, so rendering is a single
+ * pass over a precomputed list.
+ */
+public enum EmailTemplate {
+
+    OTP_VERIFICATION("UTMentor - Email Verification", """
+            Dear Student,
+            
+            Welcome to UTMentor! Please verify your email address by entering the following OTP code:
+            
+            Verification Code: {{otp}}
+            
+            This code will expire in 10 minutes.
+            
+            If you did not request this verification, please ignore this email.
+            
+            Best regards,
+            UTMentor Team
+            """),
+
+    WELCOME("UTMentor - Welcome!", """
+            Dear {{firstName}},
+            
+            Congratulations! Your email has been successfully verified and your UTMentor account is now active.
+            
+            You can now log in to your account and start using all the features of UTMentor.
+            
+            Best regards,
+            UTMentor Team
+            """);
+
+    private final String subject;
+
+    // even indexes are literals, odd indexes are placeholder names
+    private final String[] parts;
+
+    private final int literalLength;
+
+    EmailTemplate(String subject, String body) {
+        this.subject = subject;
+        List<String> compiled = new ArrayList<>();
+        int length = 0;
+        int from = 0;
+        while (true) {
+            int open = body.indexOf("{{", from);
+            int close = open < 0 ? -1 : body.indexOf("}}", open + 2);
+            if (close < 0) {
+                compiled.add(body.substring(from));
+                length += body.length() - from;
+                break;
+            }
+            compiled.add(body.substring(from, open));
+            compiled.add(body.substring(open + 2, close).trim());
+            length += open - from;
+            from = close + 2;
+        }
+        this.parts = compiled.toArray(new String[0]);
+        this.literalLength = length;
+    }
+
+    public String subject() {
+        return subject;
+    }
+
+    /**
+     * Missing parameters render as an empty string.
+     */
+    public String render(Map<String, String> params) {
+        StringBuilder out = new StringBuilder(literalLength + 32);
+        for (int i = 0; i < parts.length; i++) {
+            if (i % 2 == 0) {
+                out.append(parts[i]);
+            } else {
+                String value = params != null ? params.get(parts[i]) : null;
+                if (value != null) {
+                    out.append(value);
+                }
+            }
+        }
+        return out.toString();
+    }
+}
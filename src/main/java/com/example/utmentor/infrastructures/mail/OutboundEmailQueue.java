@@ -0,0 +1,339 @@
+package com.example.utmentor.infrastructures.mail;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.models.docEntities.Mail.OutboundEmail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Durable outbound mail queue. Every message is stored in {@code outboundEmails} first, and its id is
+ * offered to a bounded in-memory ring buffer. A fixed set of workers drains the buffer in batches
+ * and sends each batch through one SMTP connection. The worker count caps concurrent sends.
+ * Failed messages are retried with exponential backoff. A poller re-feeds due retries, overflow
+ * and anything left behind by a restart. Finished messages lose their params and are purged by
+ * a TTL index after {@code mail.outbound.retention-hours}.
+ */
+@Component
+public class OutboundEmailQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboundEmailQueue.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final JavaMailSender mailSender;
+
+    private final String fromEmail;
+
+    private final BlockingQueue<String> buffer;
+
+    // ids currently sitting in the buffer, so the poller does not offer them a second time
+    private final Set<String> buffered = ConcurrentHashMap.newKeySet();
+
+    private final int workers;
+
+    private final int batchSize;
+
+    private final int maxAttempts;
+
+    private final long baseBackoffMs;
+
+    private final long maxBackoffMs;
+
+    private final long stuckAfterMs;
+
+    private final Duration retention;
+
+    private final ExecutorService workerPool;
+
+    private volatile boolean running;
+
+    private final AtomicLong oldestDueAgeMs = new AtomicLong();
+
+    private final Timer deliveryLatency;
+
+    private final Counter sent;
+
+    private final Counter retried;
+
+    private final Counter failed;
+
+    private final Counter overflow;
+
+    public OutboundEmailQueue(MongoTemplate mongoTemplate,
+                              JavaMailSender mailSender,
+                              MeterRegistry meterRegistry,
+                              @Value("${spring.mail.username}") String fromEmail,
+                              @Value("${mail.outbound.buffer-capacity:1024}") int bufferCapacity,
+                              @Value("${mail.outbound.workers:2}") int workers,
+                              @Value("${mail.outbound.batch-size:20}") int batchSize,
+                              @Value("${mail.outbound.max-attempts:6}") int maxAttempts,
+                              @Value("${mail.outbound.backoff-base-ms:2000}") long baseBackoffMs,
+                              @Value("${mail.outbound.backoff-max-ms:600000}") long maxBackoffMs,
+                              @Value("${mail.outbound.stuck-after-ms:300000}") long stuckAfterMs,
+                              @Value("${mail.outbound.retention-hours:72}") long retentionHours) {
+        this.mongoTemplate = mongoTemplate;
+        this.mailSender = mailSender;
+        this.fromEmail = fromEmail;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.stuckAfterMs = stuckAfterMs;
+        this.retention = Duration.ofHours(retentionHours);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbound-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("mail.outbound.buffer.depth", buffer, BlockingQueue::size)
+                .register(meterRegistry);
+        Gauge.builder("mail.outbound.lag", oldestDueAgeMs, AtomicLong::get)
+                .description("How long the oldest due message has been waiting, as of the last poll")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("mail.outbound.delivery.latency")
+                .description("Time from enqueue until the message was accepted by SMTP")
+                .register(meterRegistry);
+        this.sent = Counter.builder("mail.outbound.sent").register(meterRegistry);
+        this.retried = Counter.builder("mail.outbound.retried").register(meterRegistry);
+        this.failed = Counter.builder("mail.outbound.failed").register(meterRegistry);
+        this.overflow = Counter.builder("mail.outbound.overflow").register(meterRegistry);
+    }
+
+    /**
+     * Persists the message and returns immediately; delivery happens on the workers.
+     */
+    public OutboundEmail enqueue(String to, EmailTemplate template, Map<String, String> params) {
+        OutboundEmail email = mongoTemplate.insert(new OutboundEmail(to, template.name(), params));
+        if (!offer(email.getId())) {
+            // already durable; the poller will feed it once the buffer drains
+            overflow.increment();
+        }
+        return email;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::runWorker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workerPool.shutdownNow();
+    }
+
+    /**
+     * Requeues messages whose worker died mid-send, then offers due messages that are not already
+     * buffered, i.e. overflow, retries and leftovers from a restart.
+     */
+    @Scheduled(fixedDelayString = "${mail.outbound.poll-interval-ms:5000}")
+    public void pollDue() {
+        Instant now = Instant.now();
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("status").is(OutboundEmail.Status.SENDING)
+                        .and("claimedAt").lt(now.minusMillis(stuckAfterMs))),
+                new Update().set("status", OutboundEmail.Status.PENDING).set("nextAttemptAt", now),
+                OutboundEmail.class);
+
+        int room = buffer.remainingCapacity();
+        Query due = new Query(Criteria.where("status").is(OutboundEmail.Status.PENDING)
+                .and("nextAttemptAt").lte(now)
+                .and("_id").nin(List.copyOf(buffered)))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"))
+                .limit(Math.max(1, room));
+        due.fields().include("_id", "nextAttemptAt");
+        List<OutboundEmail> dueEmails = mongoTemplate.find(due, OutboundEmail.class);
+
+        oldestDueAgeMs.set(dueEmails.isEmpty()
+                ? 0
+                : Duration.between(dueEmails.get(0).getNextAttemptAt(), now).toMillis());
+        for (OutboundEmail email : dueEmails) {
+            if (!offer(email.getId())) {
+                break;
+            }
+        }
+    }
+
+    private boolean offer(String id) {
+        if (!buffered.add(id)) {
+            return true;
+        }
+        if (!buffer.offer(id)) {
+            buffered.remove(id);
+            return false;
+        }
+        return true;
+    }
+
+    private void runWorker() {
+        List<String> ids = new ArrayList<>(batchSize);
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                String first = buffer.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                ids.add(first);
+                buffer.drainTo(ids, batchSize - 1);
+                buffered.removeAll(ids);
+                sendBatch(ids);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // claimed messages are requeued by the poller once they count as stuck
+                logger.error("Outbound mail batch failed", e);
+            } finally {
+                ids.clear();
+            }
+        }
+    }
+
+    private void sendBatch(List<String> ids) {
+        List<OutboundEmail> claimed = ids.stream()
+                .map(this::claim)
+                .filter(Objects::nonNull)
+                .toList();
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<OutboundEmail> sendable = new ArrayList<>(claimed.size());
+        List<MimeMessage> messages = new ArrayList<>(claimed.size());
+        for (OutboundEmail email : claimed) {
+            try {
+                messages.add(toMessage(email));
+                sendable.add(email);
+            } catch (MessagingException | IllegalArgumentException e) {
+                markFailed(email, e, true);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        Exception batchFailure = null;
+        try {
+            // JavaMailSenderImpl sends the whole array over a single Transport connection
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            batchFailure = failures.isEmpty() ? e : null;
+        } catch (MailException e) {
+            batchFailure = e;
+        }
+
+        for (int i = 0; i < sendable.size(); i++) {
+            Exception error = batchFailure != null ? batchFailure : failures.get(messages.get(i));
+            if (error == null) {
+                markSent(sendable.get(i));
+            } else {
+                markFailed(sendable.get(i), error, false);
+            }
+        }
+    }
+
+    private OutboundEmail claim(String id) {
+        Instant now = Instant.now();
+        return mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(id)
+                        .and("status").is(OutboundEmail.Status.PENDING)
+                        .and("nextAttemptAt").lte(now)),
+                new Update().set("status", OutboundEmail.Status.SENDING).set("claimedAt", now),
+                FindAndModifyOptions.options().returnNew(true),
+                OutboundEmail.class);
+    }
+
+    private MimeMessage toMessage(OutboundEmail email) throws MessagingException {
+        EmailTemplate template = EmailTemplate.valueOf(email.getTemplate());
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getTo());
+        helper.setSubject(template.subject());
+        helper.setText(template.render(email.getParams()));
+        return message;
+    }
+
+    private void markSent(OutboundEmail email) {
+        Instant now = Instant.now();
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(email.getId())),
+                new Update().set("status", OutboundEmail.Status.SENT).set("sentAt", now)
+                        .set("purgeAt", now.plus(retention)).unset("lastError").unset("params"),
+                OutboundEmail.class);
+        sent.increment();
+        deliveryLatency.record(Duration.between(email.getCreatedAt(), now));
+    }
+
+    private void markFailed(OutboundEmail email, Exception error, boolean permanent) {
+        int attempts = email.getAttempts() + 1;
+        Update update = new Update()
+                .set("attempts", attempts)
+                .set("lastError", String.valueOf(error.getMessage()));
+        if (permanent || attempts >= maxAttempts) {
+            update.set("status", OutboundEmail.Status.FAILED)
+                    .set("purgeAt", Instant.now().plus(retention))
+                    .unset("params");
+            failed.increment();
+            logger.error("Giving up on e-mail {} to {} after {} attempts", email.getId(), email.getTo(), attempts, error);
+        } else {
+            long backoff = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempts - 1, 20));
+            update.set("status", OutboundEmail.Status.PENDING)
+                    .set("nextAttemptAt", Instant.now().plusMillis(backoff));
+            retried.increment();
+            logger.warn("E-mail {} failed (attempt {}), retrying in {} ms: {}",
+                    email.getId(), attempts, backoff, error.getMessage());
+        }
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(email.getId())), update, OutboundEmail.class);
+    }
+}
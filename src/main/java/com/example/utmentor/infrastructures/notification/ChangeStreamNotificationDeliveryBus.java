@@ -0,0 +1,144 @@
+package com.example.utmentor.infrastructures.notification;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.models.docEntities.Notification.Notification;
+import com.mongodb.MongoException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Multi-node bus: the insert into {@code notifications} is the message. Every node tails the
+ * collection's change stream and delivers only to recipients it holds sessions for.
+ * Requires a replica set (a single-node one is enough).
+ * When the stream fails the subscription is re-opened after a capped backoff, resuming after the
+ * last event seen; if that point has aged out of the oplog it starts from now, and the reconnect
+ * replay covers whatever was missed.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.bus", havingValue = "change-stream")
+public class ChangeStreamNotificationDeliveryBus implements NotificationDeliveryBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamNotificationDeliveryBus.class);
+
+    private static final String COLLECTION = "notifications";
+
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private static final long INITIAL_BACKOFF_MS = 500;
+
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final LocalNotificationDelivery delivery;
+
+    private final MessageListenerContainer container;
+
+    private final ScheduledExecutorService restarter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "change-stream-restart");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private volatile BsonValue resumeToken;
+
+    private volatile boolean stopped;
+
+    private Subscription subscription;
+
+    public ChangeStreamNotificationDeliveryBus(MongoTemplate mongoTemplate, LocalNotificationDelivery delivery) {
+        this.delivery = delivery;
+        this.container = new DefaultMessageListenerContainer(mongoTemplate);
+    }
+
+    @PostConstruct
+    public void start() {
+        subscribe();
+        container.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        stopped = true;
+        restarter.shutdownNow();
+        container.stop();
+    }
+
+    private synchronized void subscribe() {
+        if (stopped) {
+            return;
+        }
+        if (subscription != null) {
+            container.remove(subscription);
+        }
+        ChangeStreamRequest.ChangeStreamRequestBuilder<Notification> request =
+                ChangeStreamRequest.<Notification>builder(this::onInsert)
+                        .collection(COLLECTION)
+                        .filter(Aggregation.newAggregation(Aggregation.match(Criteria.where("operationType").is("insert"))));
+        BsonValue token = resumeToken;
+        if (token != null) {
+            request.resumeAfter(token);
+        }
+        subscription = container.register(request.build(), Notification.class, this::onError);
+    }
+
+    /**
+     * The container cancels a subscription whose cursor failed, so schedule a fresh one.
+     */
+    private void onError(Throwable error) {
+        if (stopped) {
+            return;
+        }
+        if (error instanceof MongoException mongoError && mongoError.getCode() == CHANGE_STREAM_HISTORY_LOST) {
+            logger.warn("Resume point for the {} change stream is gone from the oplog; continuing from now", COLLECTION);
+            resumeToken = null;
+        }
+        long delayMs = Math.min(MAX_BACKOFF_MS, INITIAL_BACKOFF_MS << Math.min(consecutiveFailures.getAndIncrement(), 6));
+        logger.warn("Change stream on {} failed; re-subscribing in {} ms", COLLECTION, delayMs, error);
+        restarter.schedule(this::subscribe, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publish(Notification notification) {
+        // nothing to do: every node, including this one, picks the insert up from the change stream
+    }
+
+    private void onInsert(Message<ChangeStreamDocument<Document>, Notification> message) {
+        ChangeStreamDocument<Document> raw = message.getRaw();
+        if (raw != null) {
+            resumeToken = raw.getResumeToken();
+        }
+        consecutiveFailures.set(0);
+        Notification notification = message.getBody();
+        if (notification == null) {
+            return;
+        }
+        try {
+            delivery.deliver(notification, "change-stream");
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Change-stream delivery of notification {} failed", notification.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.utmentor.infrastructures.notification;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.handler.WebSocketHandler;
+import com.example.utmentor.handler.WebSocketSessionRegistry;
+import com.example.utmentor.infrastructures.repository.Interface.NotificationRepository;
+import com.example.utmentor.models.docEntities.Notification.Notification;
+import com.example.utmentor.models.webModels.notification.NotificationResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Pushes a notification to the recipient's sessions on this node, if it has any.
+ */
+@Component
+public class LocalNotificationDelivery {
+
+    private final WebSocketHandler handler;
+
+    private final WebSocketSessionRegistry sessionRegistry;
+
+    private final NotificationRepository notificationRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    public LocalNotificationDelivery(WebSocketHandler handler,
+                                     WebSocketSessionRegistry sessionRegistry,
+                                     NotificationRepository notificationRepository,
+                                     MeterRegistry meterRegistry) {
+        this.handler = handler;
+        this.sessionRegistry = sessionRegistry;
+        this.notificationRepository = notificationRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param bus tag for the end-to-end latency timer (creation to push)
+     * @return false if the recipient has no session on this node
+     */
+    public boolean deliver(Notification notification, String bus) throws IOException {
+        String toUserId = notification.getToUserId();
+        if (sessionRegistry.sessionsOf(toUserId).isEmpty()) {
+            return false;
+        }
+        handler.sendToUser(toUserId, Map.of(
+                "type", "PRIVATE_NOTIFICATION",
+                "to", toUserId,
+                "from", notification.getSendUserId(),
+                "content", NotificationResponse.from(notification, "Thông báo")));
+        handler.sendUnreadCount(toUserId, notificationRepository.findUnreadCount(toUserId));
+
+        if (notification.getCreatedAt() != null) {
+            Timer.builder("notification.bus.delivery.latency")
+                    .tag("bus", bus)
+                    .register(meterRegistry)
+                    .record(Duration.between(notification.getCreatedAt(), Instant.now()));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.utmentor.infrastructures.notification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.models.docEntities.Notification.Notification;
+
+/**
+ * Single-node bus: delivers straight to this node's sessions.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.bus", havingValue = "local", matchIfMissing = true)
+public class LocalNotificationDeliveryBus implements NotificationDeliveryBus {
+
+    private final LocalNotificationDelivery delivery;
+
+    public LocalNotificationDeliveryBus(LocalNotificationDelivery delivery) {
+        this.delivery = delivery;
+    }
+
+    @Override
+    public void publish(Notification notification) {
+        try {
+            delivery.deliver(notification, "local");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.utmentor.infrastructures.notification;
+
+import com.example.utmentor.models.docEntities.Notification.Notification;
+
+/**
+ * Routes a stored notification to whichever node holds the recipient's WebSocket sessions.
+ * Selected with {@code notification.bus}: {@code local} (default, single node) or
+ * {@code change-stream} (any number of nodes sharing a replica set).
+ */
+public interface NotificationDeliveryBus {
+
+    /**
+     * Called after the notification has been persisted.
+     */
+    void publish(Notification notification);
+}
@@ -0,0 +1,140 @@
+package com.example.utmentor.infrastructures.notification;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bounded executor for notification persistence and WebSocket delivery, kept off the common
+ * ForkJoinPool so a slow client cannot starve unrelated work.
+ * When the queue is full the submitter waits up to {@code offer-timeout-ms}, then the task is
+ * rejected and counted.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private final ThreadPoolExecutor executor;
+
+    private final Timer deliveryLatency;
+
+    private final Counter failures;
+
+    private final Counter rejected;
+
+    // tail of each key's chain of ordered tasks; removed once the chain drains
+    private final ConcurrentMap<String, CompletableFuture<Void>> lanes = new ConcurrentHashMap<>();
+
+    public NotificationDispatcher(MeterRegistry meterRegistry,
+                                  @Value("${notification.dispatcher.threads:4}") int threads,
+                                  @Value("${notification.dispatcher.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${notification.dispatcher.offer-timeout-ms:200}") long offerTimeoutMs) {
+        BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                waitThenReject(offerTimeoutMs));
+
+        Gauge.builder("notification.dispatcher.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        Gauge.builder("notification.dispatcher.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("notification.delivery.latency")
+                .description("Time from submission until a notification task finishes")
+                .register(meterRegistry);
+        this.failures = Counter.builder("notification.delivery.failures").register(meterRegistry);
+        this.rejected = Counter.builder("notification.dispatcher.rejected").register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code task} on the dispatcher. The returned future completes exceptionally if the task
+     * fails or is rejected; either way the failure is already logged and counted.
+     */
+    public CompletableFuture<Void> submit(String description, Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        CompletableFuture<Void> future;
+        try {
+            future = CompletableFuture.runAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            logger.warn("Notification dispatcher saturated, dropped: {}", description);
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((ignored, error) -> {
+            deliveryLatency.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            if (error != null) {
+                failures.increment();
+                logger.error("Notification task failed: {}", description, error);
+            }
+        });
+    }
+
+    /**
+     * Like {@link #submit(String, Runnable)}, but tasks sharing {@code key} run one at a time in
+     * submission order, each starting after the previous one finished or failed. Tasks for
+     * different keys still run in parallel.
+     */
+    public CompletableFuture<Void> submitOrdered(String key, String description, Runnable task) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        CompletableFuture<Void> previous = lanes.put(key, done);
+        Runnable start = () -> submit(description, task).whenComplete((ignored, error) -> {
+            lanes.remove(key, done);
+            if (error != null) {
+                done.completeExceptionally(error);
+            } else {
+                done.complete(null);
+            }
+        });
+        if (previous == null) {
+            start.run();
+        } else {
+            previous.whenComplete((ignored, error) -> start.run());
+        }
+        return done;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            logger.warn("Notification dispatcher did not drain; {} task(s) dropped",
+                    executor.shutdownNow().size());
+        }
+    }
+
+    private static RejectedExecutionHandler waitThenReject(long offerTimeoutMs) {
+        return (runnable, pool) -> {
+            try {
+                if (!pool.isShutdown() && pool.getQueue().offer(runnable, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new RejectedExecutionException("Notification queue full");
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.utmentor.infrastructures.otp;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.util.HashedTimingWheel;
+import com.example.utmentor.util.ServiceBusyException;
+
+/**
+ * Single-node store. Each entry is scheduled on a timing wheel when written, so expired OTPs are
+ * dropped in O(1) even if nobody ever validates them; {@code otp.store.max-entries} caps the map.
+ */
+@Component
+@ConditionalOnProperty(name = "otp.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOtpStore implements OtpStore {
+
+    private record Slot(OtpEntry entry, HashedTimingWheel.Timeout<String> timeout) {
+    }
+
+    private final Map<String, Slot> entries = new ConcurrentHashMap<>();
+
+    private final HashedTimingWheel<String> wheel =
+            new HashedTimingWheel<>(1000, 1024, System.currentTimeMillis());
+
+    private final int maxEntries;
+
+    public InMemoryOtpStore(@Value("${otp.store.max-entries:100000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public void put(String email, String otp, Instant expiresAt) {
+        if (entries.size() >= maxEntries && !entries.containsKey(email)) {
+            throw new ServiceBusyException("Too many pending verifications.", 60);
+        }
+        entries.compute(email, (key, previous) -> {
+            if (previous != null) {
+                previous.timeout().cancel();
+            }
+            return new Slot(new OtpEntry(email, otp, expiresAt, 0), wheel.schedule(email, expiresAt.toEpochMilli()));
+        });
+    }
+
+    @Override
+    public Optional<OtpEntry> find(String email) {
+        Slot slot = entries.get(email);
+        if (slot == null || isExpired(slot.entry())) {
+            return Optional.empty();
+        }
+        return Optional.of(slot.entry());
+    }
+
+    @Override
+    public boolean consume(String email, String otp) {
+        boolean[] consumed = new boolean[1];
+        entries.computeIfPresent(email, (key, slot) -> {
+            if (isExpired(slot.entry()) || !matches(slot.entry().otp(), otp)) {
+                return slot;
+            }
+            slot.timeout().cancel();
+            consumed[0] = true;
+            return null;
+        });
+        return consumed[0];
+    }
+
+    @Override
+    public int recordFailedAttempt(String email) {
+        Slot updated = entries.computeIfPresent(email, (key, slot) -> {
+            OtpEntry entry = slot.entry();
+            return new Slot(new OtpEntry(entry.email(), entry.otp(), entry.expiresAt(), entry.attempts() + 1),
+                    slot.timeout());
+        });
+        return updated != null ? updated.entry().attempts() : 0;
+    }
+
+    @Override
+    public void remove(String email) {
+        Slot removed = entries.remove(email);
+        if (removed != null) {
+            removed.timeout().cancel();
+        }
+    }
+
+    @Scheduled(fixedRate = 1000)
+    public void expire() {
+        wheel.advance(System.currentTimeMillis(), email ->
+                entries.computeIfPresent(email, (key, slot) -> isExpired(slot.entry()) ? null : slot));
+    }
+
+    private static boolean isExpired(OtpEntry entry) {
+        return !entry.expiresAt().isAfter(Instant.now());
+    }
+
+    private static boolean matches(String expected, String actual) {
+        return actual != null && MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8), actual.getBytes(StandardCharsets.UTF_8));
+    }
+}
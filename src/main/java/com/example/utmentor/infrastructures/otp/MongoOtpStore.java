@@ -0,0 +1,80 @@
+package com.example.utmentor.infrastructures.otp;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.models.docEntities.Otp.OtpCode;
+
+/**
+ * Shared store for multi-node deployments ({@code otp.store=mongo}), so a resend and the
+ * following validate may land on different instances. Expiry is left to the TTL index.
+ */
+@Component
+@ConditionalOnProperty(name = "otp.store", havingValue = "mongo")
+public class MongoOtpStore implements OtpStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoOtpStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void put(String email, String otp, Instant expiresAt) {
+        Update update = new Update()
+                .set("otp", otp)
+                .set("expiresAt", expiresAt)
+                .set("attempts", 0);
+        mongoTemplate.upsert(byEmail(email), update, OtpCode.class);
+    }
+
+    @Override
+    public Optional<OtpEntry> find(String email) {
+        return Optional.ofNullable(mongoTemplate.findOne(unexpired(email), OtpCode.class))
+                .map(MongoOtpStore::toEntry);
+    }
+
+    @Override
+    public boolean consume(String email, String otp) {
+        if (otp == null) {
+            return false;
+        }
+        Query query = unexpired(email).addCriteria(Criteria.where("otp").is(otp));
+        return mongoTemplate.findAndRemove(query, OtpCode.class) != null;
+    }
+
+    @Override
+    public int recordFailedAttempt(String email) {
+        OtpCode updated = mongoTemplate.findAndModify(
+                unexpired(email),
+                new Update().inc("attempts", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                OtpCode.class);
+        return updated != null ? updated.getAttempts() : 0;
+    }
+
+    @Override
+    public void remove(String email) {
+        mongoTemplate.remove(byEmail(email), OtpCode.class);
+    }
+
+    private static Query byEmail(String email) {
+        return new Query(Criteria.where("_id").is(email));
+    }
+
+    private static Query unexpired(String email) {
+        return new Query(Criteria.where("_id").is(email).and("expiresAt").gt(Instant.now()));
+    }
+
+    private static OtpEntry toEntry(OtpCode code) {
+        return new OtpEntry(code.getId(), code.getOtp(), code.getExpiresAt(), code.getAttempts());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.utmentor.infrastructures.otp;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Pending OTPs by email, with the number of failed validation attempts against each.
+ * Implementations never return an expired entry.
+ */
+public interface OtpStore {
+
+    record OtpEntry(String email, String otp, Instant expiresAt, int attempts) {
+    }
+
+    /**
+     * Replaces any pending OTP for the email and resets its attempt counter.
+     */
+    void put(String email, String otp, Instant expiresAt);
+
+    Optional<OtpEntry> find(String email);
+
+    /**
+     * Removes the entry if it is unexpired and its OTP equals {@code otp}.
+     *
+     * @return true if the OTP was consumed
+     */
+    boolean consume(String email, String otp);
+
+    /**
+     * @return attempts recorded so far, or 0 if there is no pending OTP
+     */
+    int recordFailedAttempt(String email);
+
+    void remove(String email);
+}
@@ -1,26 +1,40 @@
 package com.example.utmentor.infrastructures.repository.Interface;
 
+import com.example.utmentor.infrastructures.cache.ConnectionStatusCache;
 import com.example.utmentor.models.docEntities.Connection.Connection;
 
 import com.example.utmentor.models.docEntities.Connection.StatusRequest;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 
 @Repository
 public class ConnectionRepository {
 
+    static final String STUDENT_TUTOR_INDEX = "student_tutor";
+
     private final MongoTemplate mongoTemplate;
 
+    private final ConnectionStatusCache connectionStatusCache;
+
     @Autowired
-    public ConnectionRepository(MongoTemplate mongoTemplate) {
+    public ConnectionRepository(MongoTemplate mongoTemplate, ConnectionStatusCache connectionStatusCache) {
         this.mongoTemplate = mongoTemplate;
+        this.connectionStatusCache = connectionStatusCache;
     }
 
 
@@ -33,23 +47,47 @@ public class ConnectionRepository {
         return mongoTemplate.findOne(query, Connection.class);
     }
 
-    public Connection createConnection(String tutorId, String studentId, String message) {
-        Connection connection = new Connection(
-                UUID.randomUUID().toString(),
-                tutorId,
-                studentId,
-                StatusRequest.PENDING,
-                message,
-                Instant.now()
-        );
-        Connection saved = mongoTemplate.save(connection);
-        return saved;
+    /**
+     * Creates a PENDING request for the pair, or re-opens it if the existing one was REJECTED,
+     * in a single findAndModify. Any other existing connection makes the upsert collide with
+     * the unique (studentId, tutorId) index and surfaces as a DuplicateKeyException.
+     *
+     * @return the connection after the update; createdAt equals updatedAt when it was newly created
+     */
+    public Connection requestConnection(String tutorId, String studentId, String message) {
+        Instant now = Instant.now();
+        Query query = new Query(Criteria.where("tutorId").is(tutorId)
+                .and("studentId").is(studentId)
+                .and("status").is(StatusRequest.REJECTED));
+        Update update = new Update()
+                .set("status", StatusRequest.PENDING)
+                .set("message", message)
+                .set("updatedAt", now)
+                .setOnInsert("_id", UUID.randomUUID().toString())
+                .setOnInsert("createdAt", now);
+        Connection connection = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), Connection.class);
+        connectionStatusCache.invalidate(studentId);
+        return connection;
+    }
+
+    public Connection findById(String connectionId) {
+        return mongoTemplate.findById(connectionId, Connection.class);
     }
-    public boolean updateConnection(Connection connection , String message) {
-        connection.setStatus(StatusRequest.PENDING);
-        connection.setMessage(message);
-        Connection saved = mongoTemplate.save(connection);
-        return saved.getId() != null;
+
+    /**
+     * Moves a connection from one status to another only if it is still in {@code from}.
+     *
+     * @return false if the connection was changed concurrently or does not exist
+     */
+    public boolean transitionStatus(Connection connection, StatusRequest from, StatusRequest to) {
+        Query query = new Query(Criteria.where("_id").is(connection.getId()).and("status").is(from));
+        Update update = new Update().set("status", to).set("updatedAt", Instant.now());
+        boolean changed = mongoTemplate.updateFirst(query, update, Connection.class).getModifiedCount() == 1;
+        if (changed) {
+            connectionStatusCache.invalidate(connection.getStudentId());
+        }
+        return changed;
     }
 
     public boolean existsConnection(String connectionId) {
@@ -66,7 +104,57 @@ public class ConnectionRepository {
         }
 
         mongoTemplate.save(connectionEntity);
+        connectionStatusCache.invalidate(connectionEntity.getStudentId());
         return true;
     }
 
-}
\ No newline at end of file
+    /**
+     * Deletes all but one connection per (studentId, tutorId) pair, keeping ACCEPTED over PENDING
+     * over REJECTED and then the most recently updated. Skipped once the unique index exists.
+     *
+     * @return number of connections removed
+     */
+    public long removeDuplicatePairs() {
+        boolean indexed = mongoTemplate.indexOps(Connection.class).getIndexInfo().stream()
+                .anyMatch(index -> STUDENT_TUTOR_INDEX.equals(index.getName()));
+        if (indexed) {
+            return 0;
+        }
+
+        List<Document> pipeline = List.of(
+                new Document("$sort", new Document("updatedAt", -1)),
+                new Document("$group", new Document("_id", new Document("studentId", "$studentId").append("tutorId", "$tutorId"))
+                        .append("connections", new Document("$push", new Document("id", "$_id").append("status", "$status")))
+                        .append("count", new Document("$sum", 1))),
+                new Document("$match", new Document("count", new Document("$gt", 1))));
+
+        List<Object> duplicates = new ArrayList<>();
+        Set<String> students = new HashSet<>();
+        for (Document group : mongoTemplate.getCollection(mongoTemplate.getCollectionName(Connection.class))
+                .aggregate(pipeline)
+                .allowDiskUse(true)) {
+            List<Document> connections = group.getList("connections", Document.class);
+            Document keep = connections.stream()
+                    .min(Comparator.comparingInt(c -> statusRank(c.getString("status"))))
+                    .orElseThrow();
+            connections.stream()
+                    .filter(c -> c != keep)
+                    .forEach(c -> duplicates.add(c.get("id")));
+            students.add(group.get("_id", Document.class).getString("studentId"));
+        }
+        if (duplicates.isEmpty()) {
+            return 0;
+        }
+        long removed = mongoTemplate.remove(new Query(Criteria.where("_id").in(duplicates)), Connection.class)
+                .getDeletedCount();
+        students.forEach(connectionStatusCache::invalidate);
+        return removed;
+    }
+
+    private static int statusRank(String status) {
+        if (StatusRequest.ACCEPTED.name().equals(status)) {
+            return 0;
+        }
+        return StatusRequest.PENDING.name().equals(status) ? 1 : 2;
+    }
+}
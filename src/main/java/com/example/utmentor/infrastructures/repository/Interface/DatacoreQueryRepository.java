@@ -0,0 +1,99 @@
+package com.example.utmentor.infrastructures.repository.Interface;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import com.example.utmentor.infrastructures.cache.PageTotalCache;
+import com.example.utmentor.models.docEntities.Department;
+import com.example.utmentor.models.docEntities.HCMUT_DATACORE.Datacore;
+import com.example.utmentor.models.docEntities.Role;
+import com.example.utmentor.models.webModels.PageCursor;
+
+/**
+ * Filtered reads over the datacore roster: keyset pages by {@code _id} and a cursor-backed
+ * stream for exports. All filters, including soft deletion, are evaluated by Mongo.
+ */
+@Repository
+public class DatacoreQueryRepository {
+
+    private static final String LIST_SORT_KEY = "id-ascending";
+
+    private static final Sort LIST_SORT = Sort.by(Sort.Direction.ASC, KeysetPaging.ID);
+
+    public record Filter(Department department, Role role, boolean includeDeleted) {
+    }
+
+    /**
+     * @param exact false when served from the short-lived {@link PageTotalCache}
+     */
+    public record Total(long value, boolean exact) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+
+    private final PageTotalCache pageTotalCache;
+
+    public DatacoreQueryRepository(MongoTemplate mongoTemplate, PageTotalCache pageTotalCache) {
+        this.mongoTemplate = mongoTemplate;
+        this.pageTotalCache = pageTotalCache;
+    }
+
+    /**
+     * @return up to {@code limit + 1} rows; the extra row only signals that another page exists
+     */
+    public List<Datacore> findPage(Filter filter, int limit, PageCursor cursor) {
+        Criteria criteria = criteria(filter);
+        if (cursor != null) {
+            criteria = new Criteria().andOperator(criteria, KeysetPaging.after(LIST_SORT, LIST_SORT_KEY, cursor));
+        }
+        Query query = new Query(criteria).with(LIST_SORT).limit(limit + 1);
+        return mongoTemplate.find(query, Datacore.class);
+    }
+
+    public Total count(Filter filter) {
+        String key = PageTotalCache.DATACORE_PREFIX + filter.department() + ":" + filter.role() + ":" + filter.includeDeleted();
+        Long cached = pageTotalCache.get(key);
+        if (cached != null) {
+            return new Total(cached, false);
+        }
+        long total = mongoTemplate.count(new Query(criteria(filter)), Datacore.class);
+        pageTotalCache.put(key, total);
+        return new Total(total, true);
+    }
+
+    /**
+     * Iterates matching rows over a server-side cursor fetched {@code batchSize} documents at a time.
+     * The caller must close the stream.
+     */
+    public Stream<Datacore> stream(Filter filter, int batchSize, boolean includeProfiles) {
+        Query query = new Query(criteria(filter)).with(LIST_SORT).cursorBatchSize(batchSize);
+        if (!includeProfiles) {
+            query.fields().exclude("studentProfile", "tutorProfile");
+        }
+        return mongoTemplate.stream(query, Datacore.class);
+    }
+
+    public static PageCursor cursorAfter(Datacore last) {
+        return new PageCursor(LIST_SORT_KEY, List.of(), last.getId());
+    }
+
+    private static Criteria criteria(Filter filter) {
+        Criteria criteria = new Criteria();
+        if (!filter.includeDeleted()) {
+            criteria.and("isDeleted").is(false);
+        }
+        if (filter.department() != null) {
+            criteria.and("department").is(filter.department());
+        }
+        if (filter.role() != null) {
+            criteria.and("role").is(filter.role());
+        }
+        return criteria;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.utmentor.infrastructures.repository.Interface;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+
+import com.example.utmentor.infrastructures.cache.PageTotalCache;
+
+/**
+ * Runs a filter pipeline plus its page stages in a single round trip.
+ * On a cache miss the page and the total come back together from one {@code $facet};
+ * on a hit only the page stages run.
+ */
+final class FacetPaging {
+
+    private FacetPaging() {}
+
+    record Result(List<Document> documents, long total, boolean totalExact) {}
+
+    static <T> Result aggregate(
+            MongoTemplate mongoTemplate,
+            Class<T> inputType,
+            List<AggregationOperation> filterPipeline,
+            List<AggregationOperation> pageOps,
+            PageTotalCache totalCache,
+            String countKey
+    ) {
+        Long cachedTotal = totalCache.get(countKey);
+        if (cachedTotal != null) {
+            if (cachedTotal == 0) {
+                return new Result(new ArrayList<>(), 0, false);
+            }
+            List<AggregationOperation> dataOps = new ArrayList<>(filterPipeline);
+            dataOps.addAll(pageOps);
+            TypedAggregation<T> dataAggregation = Aggregation.newAggregation(inputType, dataOps);
+            List<Document> documents = mongoTemplate.aggregate(dataAggregation, Document.class).getMappedResults();
+            return new Result(documents, cachedTotal, false);
+        }
+
+        List<AggregationOperation> facetOps = new ArrayList<>(filterPipeline);
+        facetOps.add(Aggregation.facet(pageOps.toArray(new AggregationOperation[0])).as("data")
+                .and(Aggregation.count().as("totalCount")).as("total"));
+        TypedAggregation<T> facetAggregation = Aggregation.newAggregation(inputType, facetOps);
+        Document facetDoc = mongoTemplate.aggregate(facetAggregation, Document.class).getUniqueMappedResult();
+
+        List<Document> documents = new ArrayList<>();
+        long total = 0;
+        if (facetDoc != null) {
+            documents = facetDoc.getList("data", Document.class, new ArrayList<>());
+            List<Document> totals = facetDoc.getList("total", Document.class, List.of());
+            if (!totals.isEmpty() && totals.get(0).get("totalCount") instanceof Number num) {
+                total = num.longValue();
+            }
+        }
+        totalCache.put(countKey, total);
+        return new Result(documents, total, true);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.utmentor.infrastructures.repository.Interface;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import com.example.utmentor.models.webModels.PageCursor;
+
+/**
+ * Builds "strictly after this row" criteria for a sort, so deep pages seek
+ * instead of skipping. {@code _id} is always the final tie-breaker, in the direction of
+ * the primary key, which lets one compound index ending in {@code _id} serve both directions.
+ */
+final class KeysetPaging {
+
+    static final String ID = "_id";
+
+    private KeysetPaging() {}
+
+    static Sort withIdTieBreaker(Sort sort) {
+        if (sort.getOrderFor(ID) != null) {
+            return sort;
+        }
+        Sort.Direction direction = sort.stream()
+                .findFirst()
+                .map(Sort.Order::getDirection)
+                .orElse(Sort.Direction.ASC);
+        return sort.and(Sort.by(direction, ID));
+    }
+
+    /**
+     * @param sort a sort that ends with the {@code _id} tie-breaker
+     */
+    static Criteria after(Sort sort, String sortKey, PageCursor cursor) {
+        List<Sort.Order> orders = sort.toList();
+        if (!sortKey.equals(cursor.sortKey()) || cursor.values().size() != orders.size() - 1) {
+            throw PageCursor.invalid();
+        }
+
+        List<Criteria> branches = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            Object value = valueFor(orders, i, cursor);
+
+            Criteria beyond;
+            if (order.isAscending()) {
+                // nulls sort first, so anything non-null is after a null
+                beyond = value == null
+                        ? Criteria.where(order.getProperty()).ne(null)
+                        : Criteria.where(order.getProperty()).gt(value);
+            } else {
+                if (value == null) {
+                    // nothing sorts below null in descending order
+                    continue;
+                }
+                beyond = new Criteria().orOperator(
+                        Criteria.where(order.getProperty()).lt(value),
+                        Criteria.where(order.getProperty()).is(null));
+            }
+
+            List<Criteria> branch = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                branch.add(Criteria.where(orders.get(j).getProperty()).is(valueFor(orders, j, cursor)));
+            }
+            branch.add(beyond);
+            branches.add(new Criteria().andOperator(branch));
+        }
+        return new Criteria().orOperator(branches);
+    }
+
+    static PageCursor cursorAfter(Document last, Sort sort, String sortKey) {
+        List<Object> values = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            if (!ID.equals(order.getProperty())) {
+                values.add(valueAt(last, order.getProperty()));
+            }
+        }
+        return new PageCursor(sortKey, values, String.valueOf(last.get(ID)));
+    }
+
+    private static Object valueFor(List<Sort.Order> orders, int index, PageCursor cursor) {
+        if (ID.equals(orders.get(index).getProperty())) {
+            return cursor.lastId();
+        }
+        return cursor.values().get(index);
+    }
+
+    private static Object valueAt(Document doc, String path) {
+        Object current = doc;
+        for (String part : path.split("\\.")) {
+            if (!(current instanceof Document d)) {
+                return null;
+            }
+            current = d.get(part);
+        }
+        return current;
+    }
+}
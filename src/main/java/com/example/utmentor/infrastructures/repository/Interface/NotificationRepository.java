@@ -3,19 +3,30 @@ package com.example.utmentor.infrastructures.repository.Interface;
 
 
 import com.example.utmentor.models.docEntities.Notification.Notification;
+import com.example.utmentor.models.docEntities.Notification.NotificationCounter;
 import com.mongodb.client.result.UpdateResult;
+import com.example.utmentor.models.webModels.PageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
 
 @Repository
 public class NotificationRepository {
 
+    private static final String FEED_SORT_KEY = "notifications";
+
     private final MongoTemplate mongoTemplate;
 
     @Autowired
@@ -27,24 +38,142 @@ public class NotificationRepository {
         return mongoTemplate.findById(id, Notification.class);
     }
 
-    public void markAsRead( List<String> notificationIds) {
-
-        Query query = new Query(Criteria.where("_id").in(notificationIds));
-        Update update = new Update().set("isRead", true);
+    /**
+     * Marks the user's own unread notifications among {@code notificationIds} as read and
+     * decrements the unread counter by exactly the number that flipped.
+     *
+     * @return the unread count afterwards
+     */
+    public long markAsRead(String userId, List<String> notificationIds) {
+        Query query = new Query(Criteria.where("_id").in(notificationIds)
+                .and("toUserId").is(userId)
+                .and("isRead").is(false));
+        Update update = new Update().set("isRead", true).set("updatedAt", Instant.now());
 
         UpdateResult result = mongoTemplate.updateMulti(query, update, Notification.class);
-
+        if (result.getModifiedCount() == 0) {
+            return findUnreadCount(userId);
+        }
+        NotificationCounter counter = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(userId)),
+                new Update().inc("unread", -result.getModifiedCount()),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                NotificationCounter.class);
+        return Math.max(0, counter.getUnread());
     }
 
-
     public void save(Notification notification) {
         Notification saved = mongoTemplate.save(notification);
     }
 
-    public List<Notification> findByToUserId(String userId) {
-        Query query = new Query(Criteria.where("toUserId").is(userId));
-        query.with(org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Direction.DESC, "timestamp"));
+    /**
+     * Plain insert (not save's upsert) so change-stream listeners see an "insert" event.
+     */
+    public void insert(Notification notification) {
+        mongoTemplate.insert(notification);
+    }
+
+    /**
+     * One page of the user's notifications, newest first, seeking past {@code cursor} when given.
+     * Fetches {@code limit + 1} so the caller can tell whether another page exists.
+     */
+    public List<Notification> findFeed(String userId, int limit, PageCursor cursor) {
+        Sort sort = KeysetPaging.withIdTieBreaker(Sort.by(Sort.Direction.DESC, "createdAt"));
+        Criteria criteria = Criteria.where("toUserId").is(userId);
+        if (cursor != null) {
+            criteria = new Criteria().andOperator(criteria, KeysetPaging.after(sort, FEED_SORT_KEY, cursor));
+        }
+        Query query = new Query(criteria).with(sort).limit(limit + 1);
         return mongoTemplate.find(query, Notification.class);
     }
-}
 
+    public static PageCursor feedCursorAfter(Notification last) {
+        return new PageCursor(FEED_SORT_KEY, Collections.singletonList(last.getCreatedAt()), last.getId());
+    }
+
+    public long findUnreadCount(String userId) {
+        NotificationCounter counter = mongoTemplate.findById(userId, NotificationCounter.class);
+        return counter != null ? Math.max(0, counter.getUnread()) : 0L;
+    }
+
+    /**
+     * Seeds unread counters from the notifications collection the first time the counter field
+     * is introduced; a no-op once any counter carries it.
+     *
+     * @return number of users whose counter was set
+     */
+    public long backfillUnreadCounters() {
+        if (mongoTemplate.exists(new Query(Criteria.where("unread").exists(true)), NotificationCounter.class)) {
+            return 0;
+        }
+        Aggregation unreadByUser = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("isRead").is(false)),
+                Aggregation.group("toUserId").count().as("unread"));
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationCounter.class);
+        long users = 0;
+        for (Document doc : mongoTemplate.aggregate(unreadByUser, Notification.class, Document.class)) {
+            if (doc.get("_id") == null) {
+                continue;
+            }
+            bulk.upsert(new Query(Criteria.where("_id").is(doc.get("_id"))),
+                    new Update().set("unread", ((Number) doc.get("unread")).longValue()));
+            users++;
+        }
+        if (users > 0) {
+            bulk.execute();
+        }
+        return users;
+    }
+
+    /**
+     * Hands out the next sequence number for the recipient. A number whose insert then fails is
+     * simply skipped; replay never expects seq to be contiguous.
+     */
+    public long nextSeq(String userId) {
+        return mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(userId)),
+                new Update().inc("seq", 1L),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                NotificationCounter.class).getSeq();
+    }
+
+    /**
+     * Counts one more unread notification for the user; call only after the insert succeeded.
+     */
+    public void incrementUnread(String userId) {
+        mongoTemplate.upsert(new Query(Criteria.where("_id").is(userId)),
+                new Update().inc("unread", 1L), NotificationCounter.class);
+    }
+
+    public long findAckedSeq(String userId) {
+        NotificationCounter counter = mongoTemplate.findById(userId, NotificationCounter.class);
+        return counter != null ? counter.getAckedSeq() : 0L;
+    }
+
+    /**
+     * Raises the user's acknowledged watermark to {@code seq} and marks every stored notification
+     * up to it as acknowledged. One stored after this with a lower seq keeps {@code acked = false},
+     * so {@link #findForReplay} still picks it up.
+     */
+    public void ackSeq(String userId, long seq) {
+        mongoTemplate.upsert(new Query(Criteria.where("_id").is(userId)),
+                new Update().max("ackedSeq", seq), NotificationCounter.class);
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("toUserId").is(userId).and("acked").is(false).and("seq").lte(seq)),
+                new Update().set("acked", true), Notification.class);
+    }
+
+    /**
+     * Notifications for the user with seq greater than {@code afterSeq}, plus any below it that
+     * were never acknowledged, oldest first.
+     * Served by the {toUserId, seq} and {toUserId, acked, seq} indexes.
+     */
+    public List<Notification> findForReplay(String userId, long afterSeq, int limit) {
+        Query query = new Query(Criteria.where("toUserId").is(userId).orOperator(
+                        Criteria.where("seq").gt(afterSeq),
+                        Criteria.where("acked").is(false)))
+                .with(Sort.by(Sort.Direction.ASC, "seq"))
+                .limit(limit);
+        return mongoTemplate.find(query, Notification.class);
+    }
+}
@@ -2,37 +2,59 @@ package com.example.utmentor.infrastructures.repository.Interface;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
-import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
 import org.springframework.data.mongodb.core.aggregation.LookupOperation;
 import org.springframework.data.mongodb.core.aggregation.MatchOperation;
 import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
-import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import com.example.utmentor.infrastructures.cache.PageTotalCache;
+import com.example.utmentor.infrastructures.search.TutorProfileChangedEvent;
 import com.example.utmentor.models.docEntities.Rating;
+import com.example.utmentor.models.docEntities.users.TutorProfile;
+import com.example.utmentor.models.webModels.PageCursor;
 import com.example.utmentor.models.webModels.PageResponse;
 import com.example.utmentor.models.webModels.profile.ReviewResponse;
 
 @Repository
 public class RatingRepository {
+
+    private static final AggregationExpression RATING_AVG = ConditionalOperators.when(Criteria.where("ratingCount").gt(0))
+            .thenValueOf(ArithmeticOperators.Divide.valueOf("ratingSum").divideBy("ratingCount"))
+            .otherwise(0.0);
     
     @Autowired
     private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PageTotalCache pageTotalCache;
     
     public List<Rating> findByRevieweeID(String revieweeID) {
         Query query = new Query(Criteria.where("revieweeID").is(revieweeID));
@@ -58,22 +80,132 @@ public class RatingRepository {
         return mongoTemplate.exists(new Query(Criteria.where("_id").is(id)), Rating.class);
     }
     
+    /**
+     * Saves without touching the tutor's rating counters; use {@link #insertReview} for new reviews.
+     */
     public Rating save(Rating rating) {
-        return mongoTemplate.save(rating);
+        Rating saved = mongoTemplate.save(rating);
+        pageTotalCache.invalidate(PageTotalCache.TUTOR_REVIEWS_PREFIX + saved.getRevieweeID());
+        eventPublisher.publishEvent(new TutorProfileChangedEvent(saved.getRevieweeID()));
+        return saved;
+    }
+
+    /**
+     * Inserts a review and applies it to the tutor's ratingCount, ratingSum and ratingHistogram.
+     * There is no multi-document transaction here, so the insert is undone if the counter update fails.
+     */
+    public Rating insertReview(Rating rating) {
+        Rating saved = mongoTemplate.insert(rating);
+        try {
+            applyToTutorAggregates(saved.getRevieweeID(), saved.getRating(), 1);
+        } catch (RuntimeException e) {
+            mongoTemplate.remove(saved);
+            throw e;
+        }
+        pageTotalCache.invalidate(PageTotalCache.TUTOR_REVIEWS_PREFIX + saved.getRevieweeID());
+        eventPublisher.publishEvent(new TutorProfileChangedEvent(saved.getRevieweeID()));
+        return saved;
     }
     
     public void deleteById(String id) {
-        mongoTemplate.remove(new Query(Criteria.where("_id").is(id)), Rating.class);
+        Rating removed = mongoTemplate.findAndRemove(new Query(Criteria.where("_id").is(id)), Rating.class);
+        if (removed != null) {
+            if (isValidStars(removed.getRating())) {
+                applyToTutorAggregates(removed.getRevieweeID(), removed.getRating(), -1);
+            }
+            pageTotalCache.invalidate(PageTotalCache.TUTOR_REVIEWS_PREFIX + removed.getRevieweeID());
+            eventPublisher.publishEvent(new TutorProfileChangedEvent(removed.getRevieweeID()));
+        }
     }
     
     public List<Rating> findAll() {
         return mongoTemplate.findAll(Rating.class);
     }
+
+    /**
+     * Recomputes rating counters from the ratings collection for profiles written before
+     * the counters existed.
+     *
+     * @return number of profiles updated
+     */
+    public long backfillTutorAggregates() {
+        Query missing = new Query(Criteria.where("ratingSum").exists(false));
+        missing.fields().include("_id");
+        List<String> tutorIds = mongoTemplate.find(missing, TutorProfile.class).stream()
+                .map(TutorProfile::getId)
+                .toList();
+        if (tutorIds.isEmpty()) {
+            return 0;
+        }
+
+        Aggregation countByStars = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("revieweeID").in(tutorIds).and("rating").gte(1).lte(5)),
+                Aggregation.group("revieweeID", "rating").count().as("count")
+        );
+        Map<String, int[]> histograms = new HashMap<>();
+        for (Document doc : mongoTemplate.aggregate(countByStars, Rating.class, Document.class)) {
+            Document key = doc.get("_id", Document.class);
+            int stars = ((Number) key.get("rating")).intValue();
+            histograms.computeIfAbsent(key.getString("revieweeID"), id -> new int[5])[stars - 1] =
+                    ((Number) doc.get("count")).intValue();
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TutorProfile.class);
+        for (String tutorId : tutorIds) {
+            int[] histogram = histograms.getOrDefault(tutorId, new int[5]);
+            int count = 0;
+            int sum = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                count += histogram[i];
+                sum += histogram[i] * (i + 1);
+            }
+            bulk.updateOne(new Query(Criteria.where("_id").is(tutorId)), new Update()
+                    .set("ratingHistogram", Arrays.stream(histogram).boxed().toList())
+                    .set("ratingCount", count)
+                    .set("ratingSum", sum)
+                    .set("ratingAvg", count > 0 ? (double) sum / count : 0.0));
+        }
+        bulk.execute();
+        return tutorIds.size();
+    }
+
+    private void applyToTutorAggregates(String tutorId, Integer stars, int delta) {
+        if (!isValidStars(stars)) {
+            throw new IllegalArgumentException("Rating must be between 1 and 5: " + stars);
+        }
+        int bucket = stars - 1;
+        // One pipeline update: the second $set stage sees the counters written by the first,
+        // so ratingAvg can never be left behind by a crash between two writes
+        AggregationOperation counters = context -> new Document("$set", new Document()
+                .append("ratingCount", new Document("$add", List.of(ifNull("$ratingCount"), delta)))
+                .append("ratingSum", new Document("$add", List.of(ifNull("$ratingSum"), stars * delta)))
+                .append("ratingHistogram", new Document("$map", new Document()
+                        .append("input", new Document("$range", List.of(0, 5)))
+                        .append("as", "i")
+                        .append("in", new Document("$add", List.of(
+                                ifNull(new Document("$arrayElemAt", List.of("$ratingHistogram", "$$i"))),
+                                new Document("$cond", List.of(new Document("$eq", List.of("$$i", bucket)), delta, 0))))))));
+        AggregationUpdate update = AggregationUpdate.from(List.of(counters))
+                .set("ratingAvg").toValue(RATING_AVG);
+        Query tutor = new Query(Criteria.where("_id").is(tutorId));
+        if (mongoTemplate.updateFirst(tutor, update, TutorProfile.class).getMatchedCount() == 0) {
+            throw new IllegalStateException("Tutor profile not found: " + tutorId);
+        }
+    }
+
+    private static Document ifNull(Object expression) {
+        return new Document("$ifNull", List.of(expression, 0));
+    }
+
+    private static boolean isValidStars(Integer stars) {
+        return stars != null && stars >= 1 && stars <= 5;
+    }
     
     public PageResponse<ReviewResponse> findTutorReviewsWithReviewerInfo(
             String tutorId,
             Pageable pageable,
-            String sort) {
+            String sort,
+            PageCursor cursor) {
         
         int pageNumber = pageable.getPageNumber() + 1;
         int pageSize = Math.min(Math.max(1, pageable.getPageSize()), 100);
@@ -96,39 +228,8 @@ public class RatingRepository {
 
         filterPipeline.add(Aggregation.unwind("reviewerDetails", true));
 
-        List<AggregationOperation> countOps = new ArrayList<>(filterPipeline);
-        countOps.add(Aggregation.count().as("totalCount"));
-
-        TypedAggregation<Rating> countAggregation = Aggregation.newAggregation(
-                Rating.class,
-                countOps
-        );
-
-        AggregationResults<Document> countResult = mongoTemplate.aggregate(
-                countAggregation,
-                Document.class
-        );
-
-        Document countDoc = countResult.getUniqueMappedResult();
-        long total = 0;
-        if (countDoc != null && countDoc.containsKey("totalCount")) {
-            Object countValue = countDoc.get("totalCount");
-            if (countValue instanceof Number num) {
-                total = num.longValue();
-            }
-        }
-
-        if (total == 0) {
-            return new PageResponse<>(new ArrayList<>(), pageNumber, pageSize, 0);
-        }
-
-        List<AggregationOperation> dataOps = new ArrayList<>(filterPipeline);
-
-        Sort sortOrder = getSortOrder(sort, pageable.getSort());
-        dataOps.add(Aggregation.sort(sortOrder));
-
-        dataOps.add(Aggregation.skip(skip));
-        dataOps.add(Aggregation.limit(pageSize));
+        String sortKey = normalizeSortKey(sort);
+        Sort sortOrder = KeysetPaging.withIdTieBreaker(getSortOrder(sortKey, pageable.getSort()));
 
         ProjectionOperation project = Aggregation.project()
                 .and("_id").as("reviewID")
@@ -139,21 +240,30 @@ public class RatingRepository {
                 .and("comment").as("comment")
                 .and("timestamp").as("timestamp");
 
-        dataOps.add(project);
-
-        TypedAggregation<Rating> dataAggregation = Aggregation.newAggregation(
-                Rating.class,
-                dataOps
-        );
+        List<AggregationOperation> pageOps = new ArrayList<>();
+        if (cursor != null) {
+            pageOps.add(Aggregation.match(KeysetPaging.after(sortOrder, sortKey, cursor)));
+        }
+        pageOps.add(Aggregation.sort(sortOrder));
+        if (cursor == null) {
+            pageOps.add(Aggregation.skip(skip));
+        }
+        // one extra row tells us whether there is a next page
+        pageOps.add(Aggregation.limit(pageSize + 1));
+        pageOps.add(project);
 
-        AggregationResults<Document> results = mongoTemplate.aggregate(
-                dataAggregation,
-                Document.class
-        );
+        FacetPaging.Result result = FacetPaging.aggregate(
+                mongoTemplate, Rating.class, filterPipeline, pageOps,
+                pageTotalCache, PageTotalCache.TUTOR_REVIEWS_PREFIX + tutorId);
 
-        List<Document> resultDocuments = results.getMappedResults();
+        List<Document> documents = result.documents();
+        String nextCursor = null;
+        if (documents.size() > pageSize) {
+            documents = documents.subList(0, pageSize);
+            nextCursor = KeysetPaging.cursorAfter(documents.get(pageSize - 1), sortOrder, sortKey).encode();
+        }
 
-        List<ReviewResponse> reviewResponses = resultDocuments.stream()
+        List<ReviewResponse> reviewResponses = documents.stream()
                 .map(this::convertDocumentToReviewResponse)
                 .collect(Collectors.toList());
 
@@ -161,12 +271,21 @@ public class RatingRepository {
                 reviewResponses,
                 pageNumber,
                 pageSize,
-                total
+                result.total(),
+                result.totalExact(),
+                nextCursor
         );
     }
 
+    private static String normalizeSortKey(String sort) {
+        return switch (sort == null ? "latest" : sort) {
+            case "rating-descending", "rating-ascending" -> sort;
+            default -> "latest";
+        };
+    }
+
     private Sort getSortOrder(String sort, Sort pageableSort) {
-        Sort customSort = switch (sort == null ? "latest" : sort) {
+        Sort customSort = switch (normalizeSortKey(sort)) {
             case "rating-descending" -> Sort.by(Sort.Direction.DESC, "rating")
                     .and(Sort.by(Sort.Direction.DESC, "timestamp"));
             case "rating-ascending" -> Sort.by(Sort.Direction.ASC, "rating")
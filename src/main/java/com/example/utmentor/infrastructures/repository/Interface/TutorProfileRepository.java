@@ -1,16 +1,17 @@
 package com.example.utmentor.infrastructures.repository.Interface;
 
+import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import com.example.utmentor.models.docEntities.Connection.Connection;
 import com.example.utmentor.models.docEntities.Connection.StatusRequest;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -19,9 +20,16 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import com.example.utmentor.infrastructures.cache.ConnectionStatusCache;
+import com.example.utmentor.infrastructures.cache.PageTotalCache;
+import com.example.utmentor.infrastructures.search.TutorProfileChangedEvent;
+import com.example.utmentor.infrastructures.search.TutorSortKeys;
+import com.example.utmentor.infrastructures.search.TutorSearchIndex;
 import com.example.utmentor.models.docEntities.Department;
 import com.example.utmentor.models.docEntities.Expertise;
 import com.example.utmentor.models.docEntities.users.TutorProfile;
+import com.example.utmentor.models.docEntities.users.TutorSearchView;
+import com.example.utmentor.models.webModels.PageCursor;
 import com.example.utmentor.models.webModels.PageResponse;
 import com.example.utmentor.models.webModels.search.TutorListItem;
 
@@ -32,7 +40,19 @@ public class TutorProfileRepository {
     private MongoTemplate mongoTemplate;
 
     @Autowired
-    private ConnectionRepository connectionRepository;
+    private ConnectionStatusCache connectionStatusCache;
+
+    @Autowired
+    private TutorSearchIndex tutorSearchIndex;
+
+    @Autowired
+    private TutorSearchViewRepository tutorSearchViewRepository;
+
+    @Autowired
+    private PageTotalCache pageTotalCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     public List<TutorProfile> findByIsActiveTrue() {
         Query query = new Query(Criteria.where("isActive").is(true));
@@ -44,18 +64,15 @@ public class TutorProfileRepository {
         return Optional.ofNullable(profile);
     }
     
-    public Optional<TutorProfile> findById(String id, String currentUserId) {
-        TutorProfile profile = mongoTemplate.findById(id, TutorProfile.class);
-        Connection connection = connectionRepository.findFirstByTutorIdAndStudentId(id, currentUserId);
-        return Optional.ofNullable(profile);
-    }
-    
     public TutorProfile save(TutorProfile profile) {
-        return mongoTemplate.save(profile);
+        TutorProfile saved = mongoTemplate.save(profile);
+        eventPublisher.publishEvent(new TutorProfileChangedEvent(saved.getId()));
+        return saved;
     }
     
     public void deleteById(String id) {
         mongoTemplate.remove(new Query(Criteria.where("_id").is(id)), TutorProfile.class);
+        eventPublisher.publishEvent(new TutorProfileChangedEvent(id));
     }
     
     public List<TutorProfile> findAll() {
@@ -65,14 +82,91 @@ public class TutorProfileRepository {
     public boolean existsById(String id) {
         return mongoTemplate.exists(new Query(Criteria.where("_id").is(id)), TutorProfile.class);
     }
+
+    public Optional<List<Integer>> findRatingHistogram(String id) {
+        Query query = new Query(Criteria.where("_id").is(id));
+        query.fields().include("ratingHistogram");
+        return Optional.ofNullable(mongoTemplate.findOne(query, TutorProfile.class))
+                .map(profile -> profile.getRatingHistogram() != null
+                        ? profile.getRatingHistogram()
+                        : List.of(0, 0, 0, 0, 0));
+    }
+
+    /**
+     * Takes one mentee slot if the tutor still has one. The guard and the increment are a single
+     * document update, so concurrent accepts can never push currentMenteeCount past maximumCapacity.
+     *
+     * @return false if the tutor has no profile or is already at capacity
+     */
+    public boolean reserveMenteeSlot(String tutorId) {
+        Query query = new Query(Criteria.where("_id").is(tutorId).and("acceptingMentees").is(true));
+        AggregationUpdate update = withAcceptingMentees(AggregationUpdate.update()
+                .set("currentMenteeCount").toValue(ArithmeticOperators.Add.valueOf("currentMenteeCount").add(1))
+                .set("updatedAt").toValue(Instant.now()));
+        boolean reserved = mongoTemplate.updateFirst(query, update, TutorProfile.class).getModifiedCount() == 1;
+        if (reserved) {
+            eventPublisher.publishEvent(new TutorProfileChangedEvent(tutorId));
+        }
+        return reserved;
+    }
+
+    /**
+     * Gives back a slot taken by {@link #reserveMenteeSlot}; never drops the count below zero.
+     */
+    public void releaseMenteeSlot(String tutorId) {
+        Query query = new Query(Criteria.where("_id").is(tutorId).and("currentMenteeCount").gt(0));
+        AggregationUpdate update = withAcceptingMentees(AggregationUpdate.update()
+                .set("currentMenteeCount").toValue(ArithmeticOperators.Subtract.valueOf("currentMenteeCount").subtract(1))
+                .set("updatedAt").toValue(Instant.now()));
+        if (mongoTemplate.updateFirst(query, update, TutorProfile.class).getModifiedCount() == 1) {
+            eventPublisher.publishEvent(new TutorProfileChangedEvent(tutorId));
+        }
+    }
+
+    /**
+     * Appends the stage that recomputes {@code acceptingMentees} from the updated counters.
+     * Every pipeline update touching currentMenteeCount or maximumCapacity must end with it.
+     */
+    public static AggregationUpdate withAcceptingMentees(AggregationUpdate update) {
+        return update.set("acceptingMentees").toValue(
+                ComparisonOperators.Lt.valueOf("currentMenteeCount").lessThan("maximumCapacity"));
+    }
+
+    /**
+     * One-time backfill for profiles written before {@code acceptingMentees} existed.
+     *
+     * @return number of profiles updated
+     */
+    public long backfillAcceptingMentees() {
+        Query missing = new Query(Criteria.where("acceptingMentees").exists(false));
+        long modified = mongoTemplate.updateMulti(missing,
+                withAcceptingMentees(AggregationUpdate.update()), TutorProfile.class).getModifiedCount();
+        if (modified > 0) {
+            pageTotalCache.invalidatePrefix(PageTotalCache.TUTOR_SEARCH_PREFIX);
+        }
+        return modified;
+    }
     
     public PageResponse<TutorListItem> search(
             String currentUserId,
             Department department,
             List<Expertise> expertiseList,
             String sortKey,
-            Pageable pageable
+            Pageable pageable,
+            PageCursor cursor
     ) {
+        if (tutorSearchIndex.isReady()) {
+            Optional<PageResponse<TutorListItem>> indexed = tutorSearchIndex.search(
+                    currentUserId, department, expertiseList, sortKey, pageable, cursor);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        }
+
+        if (tutorSearchViewRepository.isEnabled()) {
+            return searchReadModel(currentUserId, department, expertiseList, sortKey, pageable, cursor);
+        }
+
         int pageNumber = pageable.getPageNumber() + 1;
         int pageSize = Math.min(Math.max(1, pageable.getPageSize()), 100);
         long skip = pageable.getOffset();
@@ -81,10 +175,7 @@ public class TutorProfileRepository {
 
         List<Criteria> tutorCriteriaList = new ArrayList<>();
 
-        Criteria capacityCriteria = Criteria.where("$expr").is(
-                ComparisonOperators.Lt.valueOf("$currentMenteeCount").lessThan("$maximumCapacity")
-        );
-        tutorCriteriaList.add(capacityCriteria);
+        tutorCriteriaList.add(Criteria.where("acceptingMentees").is(true));
 
         if (expertiseList != null && !expertiseList.isEmpty()) {
             List<String> expertiseNames = expertiseList.stream()
@@ -101,29 +192,9 @@ public class TutorProfileRepository {
 
         filterPipeline.add(Aggregation.unwind("userDetails", true));
 
-
-        Document lookupStage = new Document("$lookup", new Document()
-                .append("from", "connections")
-                .append("let", new Document("tutorId", "$_id"))
-                .append("pipeline", Arrays.asList(
-                        new Document("$match", new Document("$expr", new Document("$and", Arrays.asList(
-                                new Document("$eq", Arrays.asList("$tutorId", "$$tutorId")),
-                                new Document("$eq", Arrays.asList("$studentId", currentUserId))
-                        )))),
-                        new Document("$limit", 1)
-                ))
-                .append("as", "connectionDetails")
-        );
-
-
-        filterPipeline.add(context -> lookupStage);
-
-        filterPipeline.add(Aggregation.unwind("connectionDetails", true));
-
         filterPipeline.add(Aggregation.project()
                 .andInclude("_id", "expertise", "currentMenteeCount", "maximumCapacity",
-                        "ratingCount", "ratingAvg", "description", "userDetails")
-                .and("connectionDetails.status").as("connectionStatus"));
+                        "ratingCount", "ratingAvg", "tutorDescription", "userDetails"));
 
         if (department != null) {
             MatchOperation matchUserDepartment = Aggregation.match(
@@ -132,59 +203,121 @@ public class TutorProfileRepository {
             filterPipeline.add(matchUserDepartment);
         }
 
-        List<AggregationOperation> countOps = new ArrayList<>(filterPipeline);
-        countOps.add(Aggregation.count().as("totalCount"));
-
-        TypedAggregation<TutorProfile> countAggregation = Aggregation.newAggregation(TutorProfile.class, countOps);
-
-        AggregationResults<Document> countResult = mongoTemplate.aggregate(countAggregation, Document.class);
-
-        Document countDoc = countResult.getUniqueMappedResult();
-        long total = 0;
-        if (countDoc != null && countDoc.containsKey("totalCount")) {
-            Object countValue = countDoc.get("totalCount");
-            if (countValue instanceof Number num) {
-                total = num.longValue();
-            }
+        String normalizedSortKey = TutorSortKeys.normalize(sortKey);
+        Sort sort = KeysetPaging.withIdTieBreaker(getSort(normalizedSortKey, pageable.getSort(), "userDetails."));
+        List<AggregationOperation> pageOps = new ArrayList<>();
+        if (cursor != null) {
+            pageOps.add(Aggregation.match(KeysetPaging.after(sort, normalizedSortKey, cursor)));
         }
-
-        if (total == 0) {
-            return new PageResponse<>(new ArrayList<>(), pageNumber, pageSize, 0);
+        pageOps.add(Aggregation.sort(sort));
+        if (cursor == null) {
+            pageOps.add(Aggregation.skip(skip));
         }
+        // one extra row tells us whether there is a next page
+        pageOps.add(Aggregation.limit(pageSize + 1));
+
+        FacetPaging.Result result = FacetPaging.aggregate(
+                mongoTemplate, TutorProfile.class, filterPipeline, pageOps,
+                pageTotalCache, searchCountKey(department, expertiseList));
+
+        List<Document> documents = result.documents();
+        String nextCursor = null;
+        if (documents.size() > pageSize) {
+            documents = documents.subList(0, pageSize);
+            nextCursor = KeysetPaging.cursorAfter(documents.get(pageSize - 1), sort, normalizedSortKey).encode();
+        }
+
+        Map<String, StatusRequest> statuses = connectionStatusCache.statusesFor(currentUserId);
+        List<TutorListItem> items = documents.stream()
+                .map(doc -> convertDocumentToTutorListItem(
+                        doc, doc.get("userDetails", Document.class), statuses.get(String.valueOf(doc.get("_id")))))
+                .collect(Collectors.toList());
 
-        List<AggregationOperation> dataOps = new ArrayList<>(filterPipeline);
+        return new PageResponse<>(items, pageNumber, pageSize, result.total(), result.totalExact(), nextCursor);
+    }
 
-        Sort sort = getSort(sortKey, pageable.getSort());
-        dataOps.add(Aggregation.sort(sort));
+    /**
+     * Search over the denormalized tutorSearchView collection: one indexed find for the page,
+     * a count that goes through the total cache, and connection statuses from the per-student cache.
+     */
+    private PageResponse<TutorListItem> searchReadModel(
+            String currentUserId,
+            Department department,
+            List<Expertise> expertiseList,
+            String sortKey,
+            Pageable pageable,
+            PageCursor cursor
+    ) {
+        int pageNumber = pageable.getPageNumber() + 1;
+        int pageSize = Math.min(Math.max(1, pageable.getPageSize()), 100);
 
-        dataOps.add(Aggregation.skip(skip));
-        dataOps.add(Aggregation.limit(pageSize));
+        List<Criteria> criteriaList = new ArrayList<>();
+        criteriaList.add(Criteria.where("acceptingMentees").is(true));
+        if (expertiseList != null && !expertiseList.isEmpty()) {
+            criteriaList.add(Criteria.where("expertise").all(
+                    expertiseList.stream().map(Enum::name).collect(Collectors.toList())));
+        }
+        if (department != null) {
+            criteriaList.add(Criteria.where("department").is(department.name()));
+        }
+        Criteria filter = new Criteria().andOperator(criteriaList);
+
+        String countKey = searchCountKey(department, expertiseList);
+        Long cachedTotal = pageTotalCache.get(countKey);
+        long total;
+        if (cachedTotal != null) {
+            total = cachedTotal;
+        } else {
+            total = mongoTemplate.count(new Query(filter), TutorSearchView.COLLECTION);
+            pageTotalCache.put(countKey, total);
+        }
 
-        TypedAggregation<TutorProfile> dataAggregation = Aggregation.newAggregation(TutorProfile.class, dataOps);
+        String normalizedSortKey = TutorSortKeys.normalize(sortKey);
+        Sort sort = KeysetPaging.withIdTieBreaker(getSort(normalizedSortKey, pageable.getSort(), ""));
+        Query query = cursor != null
+                ? new Query(new Criteria().andOperator(filter, KeysetPaging.after(sort, normalizedSortKey, cursor)))
+                : new Query(filter).skip(pageable.getOffset());
+        query.with(sort).limit(pageSize + 1);
+
+        List<Document> documents = mongoTemplate.find(query, Document.class, TutorSearchView.COLLECTION);
+        String nextCursor = null;
+        if (documents.size() > pageSize) {
+            documents = documents.subList(0, pageSize);
+            nextCursor = KeysetPaging.cursorAfter(documents.get(pageSize - 1), sort, normalizedSortKey).encode();
+        }
 
-        AggregationResults<Document> results = mongoTemplate.aggregate(dataAggregation, Document.class);
-        List<Document> resultDocuments = results.getMappedResults();
+        Map<String, StatusRequest> statuses = connectionStatusCache.statusesFor(currentUserId);
 
-        List<TutorListItem> items = resultDocuments.stream()
-                .map(this::convertDocumentToTutorListItem)
+        List<TutorListItem> items = documents.stream()
+                .map(doc -> convertDocumentToTutorListItem(doc, doc, statuses.get(String.valueOf(doc.get("_id")))))
                 .collect(Collectors.toList());
 
-        return new PageResponse<>(items, pageNumber, pageSize, total);
+        return new PageResponse<>(items, pageNumber, pageSize, total, cachedTotal == null, nextCursor);
     }
 
-    private Sort getSort(String sortKey, Sort pageableSort) {
-        if (sortKey == null || sortKey.isBlank()) {
-            sortKey = "rating-descending";
-        }
+    private String searchCountKey(Department department, List<Expertise> expertiseList) {
+        String expertiseKey = expertiseList == null ? "" : expertiseList.stream()
+                .map(Enum::name)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+        return PageTotalCache.TUTOR_SEARCH_PREFIX
+                + (department != null ? department.name() : "*") + ":" + expertiseKey;
+    }
 
-        Sort customSort = switch (sortKey.toLowerCase()) {
-            case "rating-ascending" ->
+    /**
+     * @param userFieldPrefix path of the embedded user fields: "userDetails." after the
+     *                        $lookup, empty on the read model where they are top-level
+     */
+    private Sort getSort(String sortKey, Sort pageableSort, String userFieldPrefix) {
+        Sort customSort = switch (TutorSortKeys.normalize(sortKey)) {
+            case TutorSortKeys.RATING_ASCENDING ->
                     Sort.by(Sort.Order.asc("ratingAvg"), Sort.Order.asc("ratingCount"));
-            case "firstname-ascending" ->
-                    Sort.by(Sort.Order.asc("userDetails.firstName"));
-            case "firstname-descending" ->
-                    Sort.by(Sort.Order.desc("userDetails.firstName"));
-            case "tutor-time" ->
+            case TutorSortKeys.FIRSTNAME_ASCENDING ->
+                    Sort.by(Sort.Order.asc(userFieldPrefix + "firstName"));
+            case TutorSortKeys.FIRSTNAME_DESCENDING ->
+                    Sort.by(Sort.Order.desc(userFieldPrefix + "firstName"));
+            case TutorSortKeys.TUTOR_TIME ->
                     Sort.by(Sort.Order.desc("ratingCount"), Sort.Order.desc("ratingAvg"));
             default ->
                     Sort.by(Sort.Order.desc("ratingAvg"), Sort.Order.desc("ratingCount"));
@@ -196,7 +329,8 @@ public class TutorProfileRepository {
         return customSort;
     }
 
-    private TutorListItem convertDocumentToTutorListItem(Document doc) {
+    private TutorListItem convertDocumentToTutorListItem(Document doc, Document userDetails,
+                                                         StatusRequest statusConnection) {
         String id = null;
         Object idObject = doc.get("_id");
         if (idObject instanceof ObjectId) {
@@ -229,12 +363,11 @@ public class TutorProfileRepository {
         Integer currentMentees = doc.getInteger("currentMenteeCount", 0);
         Integer maxCapacity = doc.getInteger("maximumCapacity", 0);
 
-        Document userDetails = doc.get("userDetails", Document.class);
         String firstName = "";
         String lastName = "";
         String avatarUrl = null;
         Department departmentEnum = null;
-        String description = null;
+        String description = doc.getString("tutorDescription");
 
         if (userDetails != null) {
             firstName = userDetails.getString("firstName");
@@ -250,16 +383,6 @@ public class TutorProfileRepository {
             }
         }
 
-        StatusRequest statusConnection = null;
-        String connectionStatusStr = doc.getString("connectionStatus");
-        if (connectionStatusStr != null) {
-            try {
-                statusConnection = StatusRequest.valueOf(connectionStatusStr);
-            } catch (IllegalArgumentException e) {
-                // Keep statusConnection as null if invalid value
-            }
-        }
-
         return new TutorListItem(
                 id,
                 firstName,
@@ -0,0 +1,165 @@
+package com.example.utmentor.infrastructures.repository.Interface;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import com.example.utmentor.infrastructures.search.TutorProfileChangedEvent;
+import com.example.utmentor.models.docEntities.users.TutorProfile;
+import com.example.utmentor.models.docEntities.users.TutorSearchView;
+import com.example.utmentor.models.docEntities.users.User;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps the {@code tutorSearchView} collection in step with tutorProfiles and users.
+ * All writes happen on one thread and always from a fresh read, so an older snapshot can never
+ * overwrite a newer one; a periodic full rebuild bounds staleness if a write skips the event.
+ */
+@Repository
+public class TutorSearchViewRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(TutorSearchViewRepository.class);
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final UserRepository userRepository;
+
+    private final boolean enabled;
+
+    private final long coalesceMillis;
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tutor-search-view");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TutorSearchViewRepository(MongoTemplate mongoTemplate,
+                                     UserRepository userRepository,
+                                     @Value("${search.read-model.enabled:true}") boolean enabled,
+                                     @Value("${search.read-model.coalesce-ms:100}") long coalesceMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.coalesceMillis = coalesceMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs on the writer's thread, so it only records the id; {@link #applyPending} re-reads
+     * every tutor that changed within the coalescing window and writes their views in one batch.
+     */
+    @EventListener
+    public void onTutorProfileChanged(TutorProfileChangedEvent event) {
+        if (!enabled || event.tutorId() == null) {
+            return;
+        }
+        pending.add(event.tutorId());
+        if (drainScheduled.compareAndSet(false, true)) {
+            refresher.schedule(this::applyPending, coalesceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    synchronized void applyPending() {
+        drainScheduled.set(false);
+        List<String> tutorIds = new ArrayList<>(pending);
+        pending.removeAll(tutorIds);
+        if (tutorIds.isEmpty()) {
+            return;
+        }
+        try {
+            List<TutorProfile> profiles = mongoTemplate.find(
+                    new Query(Criteria.where("_id").in(tutorIds)), TutorProfile.class);
+            Set<String> found = profiles.stream().map(TutorProfile::getId).collect(Collectors.toSet());
+            refreshAll(profiles, usersOf(found));
+            List<String> gone = tutorIds.stream().filter(id -> !found.contains(id)).toList();
+            if (!gone.isEmpty()) {
+                mongoTemplate.remove(new Query(Criteria.where("_id").in(gone)), TutorSearchView.class);
+            }
+        } catch (RuntimeException e) {
+            // the scheduled rebuild picks these tutors up again
+            logger.warn("Tutor search view update for {} tutors failed", tutorIds.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Replaces (or creates) the views for the given profiles in one unordered batch, for bulk
+     * provisioning and the startup rebuild instead of one round trip per tutor.
+     */
+    public synchronized void refreshAll(List<TutorProfile> profiles, Map<String, User> users) {
+        if (!enabled || profiles.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TutorSearchView.class);
+        for (TutorProfile profile : profiles) {
+            bulk.replaceOne(new Query(Criteria.where("_id").is(profile.getId())),
+                    new TutorSearchView(profile, users.get(profile.getId())),
+                    FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+
+    /**
+     * Rebuilds every view document and drops the ones whose profile is gone.
+     * Runs at startup so the view also covers data written before it existed, and on a fixed
+     * delay, which bounds how long a missed or failed update can leave a view stale.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.read-model.reconcile-interval-ms:300000}",
+            initialDelayString = "${search.read-model.reconcile-interval-ms:300000}")
+    public synchronized void rebuildAll() {
+        if (!enabled) {
+            return;
+        }
+        List<TutorProfile> profiles = mongoTemplate.findAll(TutorProfile.class);
+        Set<String> ids = profiles.stream().map(TutorProfile::getId).collect(Collectors.toSet());
+        Map<String, User> users = usersOf(ids);
+
+        for (int from = 0; from < profiles.size(); from += REBUILD_BATCH_SIZE) {
+            refreshAll(profiles.subList(from, Math.min(from + REBUILD_BATCH_SIZE, profiles.size())), users);
+        }
+        mongoTemplate.remove(new Query(Criteria.where("_id").nin(ids)), TutorSearchView.class);
+        logger.info("Tutor search view rebuilt: {} tutors", profiles.size());
+    }
+
+    private Map<String, User> usersOf(Set<String> ids) {
+        return userRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a));
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.utmentor.infrastructures.repository.Interface;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 import com.example.utmentor.models.docEntities.Department;
 import com.example.utmentor.models.docEntities.users.User;
@@ -16,6 +18,10 @@ public interface UserRepository extends MongoRepository<User, String> {
 
 
     List<User> findByIdIn(Iterable<String> ids);
+
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ '_id': 1 }")
+    List<User> findIdsByIdIn(Collection<String> ids);
+
     List<User> findByIdInAndDepartment(Iterable<String> ids, Department department);
     List<User> findByDepartment(Department department);
 }
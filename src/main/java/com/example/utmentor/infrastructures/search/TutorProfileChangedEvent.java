@@ -0,0 +1,7 @@
+package com.example.utmentor.infrastructures.search;
+
+/**
+ * Published whenever a tutor profile, or the user fields shown next to it, changes.
+ */
+public record TutorProfileChangedEvent(String tutorId) {
+}
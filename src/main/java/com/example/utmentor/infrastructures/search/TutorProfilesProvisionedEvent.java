@@ -0,0 +1,10 @@
+package com.example.utmentor.infrastructures.search;
+
+import java.util.List;
+
+/**
+ * Published once per provisioning batch for the tutor profiles it inserted. The batch has
+ * already written their search view documents in bulk, so only in-memory state follows this.
+ */
+public record TutorProfilesProvisionedEvent(List<String> tutorIds) {
+}
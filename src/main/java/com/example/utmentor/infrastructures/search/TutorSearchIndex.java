@@ -0,0 +1,393 @@
+package com.example.utmentor.infrastructures.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.infrastructures.cache.ConnectionStatusCache;
+import com.example.utmentor.infrastructures.repository.Interface.UserRepository;
+import com.example.utmentor.models.docEntities.Connection.StatusRequest;
+import com.example.utmentor.models.docEntities.Department;
+import com.example.utmentor.models.docEntities.Expertise;
+import com.example.utmentor.models.docEntities.users.TutorProfile;
+import com.example.utmentor.models.docEntities.users.User;
+import com.example.utmentor.models.webModels.PageCursor;
+import com.example.utmentor.models.webModels.PageResponse;
+import com.example.utmentor.models.webModels.search.TutorListItem;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process search index over all tutor profiles.
+ * Keeps one bitmap per expertise, per department and for "has capacity", plus
+ * presorted ordinal arrays for every sort key, so filtering and paging never touch Mongo.
+ * Disabled unless {@code search.index.enabled=true}.
+ */
+@Component
+public class TutorSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TutorSearchIndex.class);
+
+    private static final Map<String, Comparator<Entry>> SORTS = Map.of(
+            TutorSortKeys.RATING_DESCENDING, Comparator.comparingDouble(Entry::ratingAvg).reversed()
+                    .thenComparing(Comparator.comparingInt(Entry::ratingCount).reversed()),
+            TutorSortKeys.RATING_ASCENDING, Comparator.comparingDouble(Entry::ratingAvg)
+                    .thenComparingInt(Entry::ratingCount),
+            TutorSortKeys.FIRSTNAME_ASCENDING, Comparator.comparing(Entry::firstName,
+                    Comparator.nullsFirst(Comparator.<String>naturalOrder())),
+            TutorSortKeys.FIRSTNAME_DESCENDING, Comparator.comparing(Entry::firstName,
+                    Comparator.nullsFirst(Comparator.<String>naturalOrder())).reversed(),
+            TutorSortKeys.TUTOR_TIME, Comparator.comparingInt(Entry::ratingCount).reversed()
+                    .thenComparing(Comparator.comparingDouble(Entry::ratingAvg).reversed())
+    );
+
+    private final MongoTemplate mongoTemplate;
+
+    private final UserRepository userRepository;
+
+    private final ConnectionStatusCache connectionStatusCache;
+
+    private final boolean enabled;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    private final long coalesceMillis;
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tutor-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TutorSearchIndex(MongoTemplate mongoTemplate,
+                            UserRepository userRepository,
+                            ConnectionStatusCache connectionStatusCache,
+                            @Value("${search.index.enabled:false}") boolean enabled,
+                            @Value("${search.index.coalesce-ms:200}") long coalesceMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.userRepository = userRepository;
+        this.connectionStatusCache = connectionStatusCache;
+        this.enabled = enabled;
+        this.coalesceMillis = coalesceMillis;
+    }
+
+    public boolean isReady() {
+        return enabled && snapshot != null;
+    }
+
+    /**
+     * Full reload from Mongo. Runs at startup and on a fixed delay, which bounds how stale
+     * the index can get if a write ever bypasses {@link TutorProfileChangedEvent}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.index.rebuild-interval-ms:60000}",
+            initialDelayString = "${search.index.rebuild-interval-ms:60000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<TutorProfile> profiles = mongoTemplate.findAll(TutorProfile.class);
+        Map<String, User> users = userRepository.findByIdIn(
+                        profiles.stream().map(TutorProfile::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a));
+
+        entries.clear();
+        for (TutorProfile profile : profiles) {
+            entries.put(profile.getId(), toEntry(profile, users.get(profile.getId())));
+        }
+        snapshot = new Snapshot(entries.values());
+        logger.info("Tutor search index rebuilt: {} tutors in {} ms",
+                entries.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Runs on the writer's thread, so it only records the id; {@link #applyPending} reloads
+     * every tutor that changed within the coalescing window and swaps in one new snapshot.
+     */
+    @EventListener
+    public void onTutorProfileChanged(TutorProfileChangedEvent event) {
+        if (!enabled || event.tutorId() == null) {
+            return;
+        }
+        pending.add(event.tutorId());
+        scheduleDrain();
+    }
+
+    @EventListener
+    public void onTutorProfilesProvisioned(TutorProfilesProvisionedEvent event) {
+        if (!enabled || event.tutorIds().isEmpty()) {
+            return;
+        }
+        pending.addAll(event.tutorIds());
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            refresher.schedule(this::applyPending, coalesceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    synchronized void applyPending() {
+        drainScheduled.set(false);
+        List<String> tutorIds = new ArrayList<>(pending);
+        pending.removeAll(tutorIds);
+        if (snapshot == null || tutorIds.isEmpty()) {
+            // Not built yet: the initial rebuild reads the current state anyway
+            return;
+        }
+        try {
+            Map<String, TutorProfile> profiles = mongoTemplate.find(
+                            new Query(Criteria.where("_id").in(tutorIds)), TutorProfile.class)
+                    .stream()
+                    .collect(Collectors.toMap(TutorProfile::getId, Function.identity(), (a, b) -> a));
+            Map<String, User> users = userRepository.findByIdIn(List.copyOf(profiles.keySet()))
+                    .stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a));
+
+            boolean changed = false;
+            for (String tutorId : tutorIds) {
+                TutorProfile profile = profiles.get(tutorId);
+                if (profile == null) {
+                    changed |= entries.remove(tutorId) != null;
+                } else {
+                    entries.put(tutorId, toEntry(profile, users.get(tutorId)));
+                    changed = true;
+                }
+            }
+            if (changed) {
+                snapshot = new Snapshot(entries.values());
+            }
+        } catch (RuntimeException e) {
+            // The scheduled full rebuild picks these tutors up again
+            logger.warn("Tutor search index update for {} tutors failed", tutorIds.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * @return empty when the cursor points at a tutor that is no longer indexed,
+     *         in which case the caller should fall back to the Mongo path
+     */
+    public Optional<PageResponse<TutorListItem>> search(
+            String currentUserId,
+            Department department,
+            List<Expertise> expertiseList,
+            String sortKey,
+            Pageable pageable,
+            PageCursor cursor
+    ) {
+        Snapshot current = snapshot;
+        int pageNumber = pageable.getPageNumber() + 1;
+        int pageSize = Math.min(Math.max(1, pageable.getPageSize()), 100);
+        long skip = cursor == null ? pageable.getOffset() : 0;
+        String normalizedSort = TutorSortKeys.normalize(sortKey);
+
+        int start = 0;
+        if (cursor != null) {
+            if (!normalizedSort.equals(cursor.sortKey())) {
+                throw PageCursor.invalid();
+            }
+            Integer ordinal = current.ordinalById.get(cursor.lastId());
+            if (ordinal == null) {
+                return Optional.empty();
+            }
+            start = current.positions.get(normalizedSort)[ordinal] + 1;
+        }
+
+        BitSet matches = (BitSet) current.hasCapacity.clone();
+        if (expertiseList != null) {
+            for (Expertise expertise : expertiseList) {
+                matches.and(current.byExpertise.getOrDefault(expertise, Snapshot.EMPTY));
+            }
+        }
+        if (department != null) {
+            matches.and(current.byDepartment.getOrDefault(department, Snapshot.EMPTY));
+        }
+
+        long total = matches.cardinality();
+        int[] order = current.orders.get(normalizedSort);
+        List<Entry> page = new ArrayList<>(pageSize);
+        boolean more = false;
+        long seen = 0;
+        for (int i = start; i < order.length; i++) {
+            int ordinal = order[i];
+            if (!matches.get(ordinal) || seen++ < skip) {
+                continue;
+            }
+            if (page.size() == pageSize) {
+                more = true;
+                break;
+            }
+            page.add(current.byOrdinal[ordinal]);
+        }
+
+        Map<String, StatusRequest> statuses = connectionStatusCache.statusesFor(currentUserId);
+
+        List<TutorListItem> items = page.stream()
+                .map(entry -> entry.toListItem(statuses.get(entry.id())))
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (more) {
+            Entry last = page.get(page.size() - 1);
+            nextCursor = new PageCursor(normalizedSort, last.sortValues(normalizedSort), last.id()).encode();
+        }
+        return Optional.of(new PageResponse<>(items, pageNumber, pageSize, total, true, nextCursor));
+    }
+
+    private static Entry toEntry(TutorProfile profile, User user) {
+        return new Entry(
+                profile.getId(),
+                user != null ? user.getFirstName() : "",
+                user != null ? user.getLastName() : "",
+                user != null ? user.getAvatarUrl() : null,
+                user != null ? user.getDepartment() : null,
+                profile.getExpertise() != null ? List.copyOf(profile.getExpertise()) : List.of(),
+                profile.getRatingCount() != null ? profile.getRatingCount() : 0,
+                profile.getRatingAvg() != null ? profile.getRatingAvg() : 0.0,
+                profile.getCurrentMenteeCount() != null ? profile.getCurrentMenteeCount() : 0,
+                profile.getMaximumCapacity(),
+                profile.getTutorDescription()
+        );
+    }
+
+    record Entry(
+            String id,
+            String firstName,
+            String lastName,
+            String avatarUrl,
+            Department department,
+            List<Expertise> expertise,
+            int ratingCount,
+            double ratingAvg,
+            int currentMenteeCount,
+            Integer maximumCapacity,
+            String description
+    ) {
+        boolean hasCapacity() {
+            return maximumCapacity != null && currentMenteeCount < maximumCapacity;
+        }
+
+        /**
+         * Values in the same order as the Mongo sort for the key, so cursors work on either path.
+         */
+        List<Object> sortValues(String sortKey) {
+            return switch (sortKey) {
+                case "firstname-ascending", "firstname-descending" -> Collections.singletonList(firstName);
+                case "tutor-time" -> List.of(ratingCount, ratingAvg);
+                default -> List.of(ratingAvg, ratingCount);
+            };
+        }
+
+        TutorListItem toListItem(StatusRequest statusConnection) {
+            return new TutorListItem(
+                    id,
+                    firstName,
+                    lastName,
+                    avatarUrl,
+                    department,
+                    expertise,
+                    ratingCount,
+                    ratingAvg,
+                    currentMenteeCount,
+                    maximumCapacity != null ? maximumCapacity : 0,
+                    description,
+                    statusConnection
+            );
+        }
+    }
+
+    /**
+     * Immutable view of the index; searches read whichever snapshot is current.
+     */
+    private static final class Snapshot {
+        static final BitSet EMPTY = new BitSet();
+
+        final Entry[] byOrdinal;
+        final Map<Expertise, BitSet> byExpertise = new EnumMap<>(Expertise.class);
+        final Map<Department, BitSet> byDepartment = new EnumMap<>(Department.class);
+        final BitSet hasCapacity = new BitSet();
+        final Map<String, Integer> ordinalById = new HashMap<>();
+        final Map<String, int[]> orders = new HashMap<>();
+        final Map<String, int[]> positions = new HashMap<>();
+
+        Snapshot(Iterable<Entry> source) {
+            List<Entry> list = new ArrayList<>();
+            source.forEach(list::add);
+            byOrdinal = list.toArray(new Entry[0]);
+
+            for (int ordinal = 0; ordinal < byOrdinal.length; ordinal++) {
+                Entry entry = byOrdinal[ordinal];
+                ordinalById.put(entry.id(), ordinal);
+                if (entry.hasCapacity()) {
+                    hasCapacity.set(ordinal);
+                }
+                if (entry.department() != null) {
+                    byDepartment.computeIfAbsent(entry.department(), d -> new BitSet()).set(ordinal);
+                }
+                for (Expertise expertise : entry.expertise()) {
+                    byExpertise.computeIfAbsent(expertise, e -> new BitSet()).set(ordinal);
+                }
+            }
+
+            for (Map.Entry<String, Comparator<Entry>> sort : SORTS.entrySet()) {
+                // Same _id tie-break direction as KeysetPaging, so cursors cross over to the Mongo path
+                Comparator<Entry> byId = Comparator.comparing(Entry::id);
+                Comparator<Entry> comparator = sort.getValue()
+                        .thenComparing(TutorSortKeys.isDescending(sort.getKey()) ? byId.reversed() : byId);
+                Integer[] boxed = new Integer[byOrdinal.length];
+                for (int i = 0; i < boxed.length; i++) {
+                    boxed[i] = i;
+                }
+                Arrays.sort(boxed, (a, b) -> comparator.compare(byOrdinal[a], byOrdinal[b]));
+                int[] order = Arrays.stream(boxed).mapToInt(Integer::intValue).toArray();
+                int[] position = new int[order.length];
+                for (int i = 0; i < order.length; i++) {
+                    position[order[i]] = i;
+                }
+                orders.put(sort.getKey(), order);
+                positions.put(sort.getKey(), position);
+            }
+        }
+    }
+}
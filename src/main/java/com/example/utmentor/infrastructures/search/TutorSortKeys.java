@@ -0,0 +1,42 @@
+package com.example.utmentor.infrastructures.search;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Sort keys accepted by tutor search. Every search path normalizes through here,
+ * so a cursor issued by one path is accepted by the others.
+ */
+public final class TutorSortKeys {
+
+    public static final String RATING_DESCENDING = "rating-descending";
+    public static final String RATING_ASCENDING = "rating-ascending";
+    public static final String FIRSTNAME_ASCENDING = "firstname-ascending";
+    public static final String FIRSTNAME_DESCENDING = "firstname-descending";
+    public static final String TUTOR_TIME = "tutor-time";
+
+    public static final String DEFAULT = RATING_DESCENDING;
+
+    private static final Set<String> KEYS = Set.of(
+            RATING_DESCENDING, RATING_ASCENDING, FIRSTNAME_ASCENDING, FIRSTNAME_DESCENDING, TUTOR_TIME);
+
+    private TutorSortKeys() {}
+
+    /**
+     * @return the lower-cased key, or {@link #DEFAULT} when blank or unknown
+     */
+    public static String normalize(String sortKey) {
+        if (sortKey == null || sortKey.isBlank()) {
+            return DEFAULT;
+        }
+        String key = sortKey.toLowerCase(Locale.ROOT);
+        return KEYS.contains(key) ? key : DEFAULT;
+    }
+
+    /**
+     * True when the primary sort field is descending; the {@code _id} tie-breaker follows it.
+     */
+    public static boolean isDescending(String normalizedKey) {
+        return !RATING_ASCENDING.equals(normalizedKey) && !FIRSTNAME_ASCENDING.equals(normalizedKey);
+    }
+}
@@ -14,10 +14,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService) {
-        this.jwtService = jwtService;
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -38,11 +38,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            var claims = jwtService.parseAndValidate(token); // throws ExpiredJwtException on exp
-            var authorities = jwtService.extractAuthorities(claims);
+            var verified = verifiedTokenCache.verify(token); // throws ExpiredJwtException on exp
 
             var auth = new UsernamePasswordAuthenticationToken(
-                    claims.getSubject(), null, authorities);
+                    verified.subject(), null, verified.authorities());
             auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(auth);
 
@@ -61,7 +60,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private String resolveToken(HttpServletRequest request) {
+    static String resolveToken(HttpServletRequest request) {
         String h = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (h != null && h.startsWith("Bearer ")) return h.substring(7);
         if (request.getCookies() != null) {
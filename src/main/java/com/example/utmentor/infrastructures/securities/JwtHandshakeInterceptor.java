@@ -0,0 +1,69 @@
+package com.example.utmentor.infrastructures.securities;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import io.jsonwebtoken.JwtException;
+
+/**
+ * Authenticates the WebSocket upgrade with the same access token the HTTP API uses
+ * ({@code accessToken} cookie or bearer header). The token is validated once here, through
+ * {@link VerifiedTokenCache}, and the subject, authorities and expiry are kept as session
+ * attributes for the socket's lifetime.
+ */
+@Component
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String PRINCIPAL_ATTRIBUTE = "ws.principal";
+
+    public static final String AUTHORITIES_ATTRIBUTE = "ws.authorities";
+
+    public static final String EXPIRES_AT_ATTRIBUTE = "ws.expiresAt";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtHandshakeInterceptor(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String token = request instanceof ServletServerHttpRequest servletRequest
+                ? JwtAuthenticationFilter.resolveToken(servletRequest.getServletRequest())
+                : null;
+        if (token == null || token.isBlank()) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        try {
+            var verified = verifiedTokenCache.verify(token);
+            if (verified.subject() == null) {
+                response.setStatusCode(HttpStatus.UNAUTHORIZED);
+                return false;
+            }
+            attributes.put(PRINCIPAL_ATTRIBUTE, verified.subject());
+            attributes.put(AUTHORITIES_ATTRIBUTE, verified.authorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .toList());
+            attributes.put(EXPIRES_AT_ATTRIBUTE, verified.expiresAt());
+            return true;
+        } catch (JwtException ex) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
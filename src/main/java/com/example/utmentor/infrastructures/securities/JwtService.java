@@ -7,6 +7,7 @@ import java.util.*;
 import javax.crypto.SecretKey;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.JwtException;
@@ -20,6 +21,8 @@ public class JwtService {
     private final SecretKey secretKey;
     private final String issuer;
     private final long expirationMinutes;
+    // thread-safe once built; avoids rebuilding the parser and key wiring per request
+    private final JwtParser parser;
 
     public JwtService(
             @Value("${jwt.secret}") String secret,
@@ -29,6 +32,7 @@ public class JwtService {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.issuer = issuer;
         this.expirationMinutes = expirationMinutes;
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     public String generateToken(String subject, Map<String, Object> claims, boolean isRefresh) {
@@ -50,7 +54,7 @@ public class JwtService {
 
     public boolean isTokenValid(String token) {
         try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -58,14 +62,12 @@ public class JwtService {
     }
     public Claims parseAndValidate(String token) throws JwtException {
         // Sẽ ném ExpiredJwtException nếu exp quá hạn, JwtException cho các lỗi khác
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
     public String extractSubject(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
@@ -0,0 +1,99 @@
+package com.example.utmentor.infrastructures.securities;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Remembers access tokens that already passed signature and expiry checks, keyed by the
+ * SHA-256 of the token so raw tokens are never held. An entry is only served until the
+ * token's own {@code exp}; after that the token goes through {@link JwtService} again,
+ * which reports it as expired.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    public record VerifiedToken(String subject, List<SimpleGrantedAuthority> authorities, Instant expiresAt) {
+    }
+
+    private final JwtService jwtService;
+
+    private final Cache<String, VerifiedToken> verified;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    public VerifiedTokenCache(JwtService jwtService,
+                              MeterRegistry meterRegistry,
+                              @Value("${security.token-cache.max-size:10000}") long maxSize,
+                              @Value("${security.token-cache.max-ttl-seconds:900}") long maxTtlSeconds) {
+        this.jwtService = jwtService;
+        this.verified = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(maxTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        this.hits = Counter.builder("security.token.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("security.token.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws io.jsonwebtoken.ExpiredJwtException if the token has expired
+     * @throws io.jsonwebtoken.JwtException        if the token is otherwise invalid
+     */
+    public VerifiedToken verify(String token) {
+        String key = digest(token);
+        VerifiedToken cached = verified.getIfPresent(key);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(Instant.now())) {
+                hits.increment();
+                return cached;
+            }
+            verified.invalidate(key);
+        }
+        misses.increment();
+
+        Claims claims = jwtService.parseAndValidate(token);
+        VerifiedToken result = new VerifiedToken(
+                claims.getSubject(),
+                jwtService.extractAuthorities(claims),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : Instant.now());
+        if (result.subject() != null && claims.getExpiration() != null) {
+            verified.put(key, result);
+        }
+        return result;
+    }
+
+    private static String digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        sha256.reset();
+        return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.utmentor.metadata;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.infrastructures.repository.Interface.ConnectionRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Removes duplicate (studentId, tutorId) connections left by racing saves from before the
+ * unique index existed. Runs at bean initialization rather than as a CommandLineRunner
+ * because MongoIndexConfig depends on it and builds that index right after.
+ */
+@Component
+public class ConnectionDuplicateBackfill {
+
+    @Autowired
+    private ConnectionRepository connectionRepository;
+
+    @PostConstruct
+    public void run() {
+        long removed = connectionRepository.removeDuplicatePairs();
+        if (removed > 0) {
+            System.out.println("Removed " + removed + " duplicate connection(s) before building the student_tutor index");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.utmentor.metadata;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.infrastructures.repository.Interface.NotificationRepository;
+
+/**
+ * Seeds per-user unread counters from notifications stored before the counter existed.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class NotificationUnreadBackfill implements CommandLineRunner {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Override
+    public void run(String... args) {
+        long users = notificationRepository.backfillUnreadCounters();
+        if (users > 0) {
+            System.out.println("Backfilled unread notification counters for " + users + " user(s)");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 
 import com.example.utmentor.infrastructures.repository.Interface.RatingRepository;
@@ -168,7 +169,9 @@ public class ReviewBootstrap {
             }
 
             Rating ratingEntity = new Rating(reviewId, revieweeID, reviewerID, rating, comment, timestamp);
-            ratingRepository.save(ratingEntity);
+            ratingRepository.insertReview(ratingEntity);
+        } catch (DuplicateKeyException e) {
+            // the seed lists some student/tutor pairs twice; only one review per pair is kept
         } catch (Exception e) {
             System.err.println("Error creating review " + reviewId + ": " + e.getMessage());
         }
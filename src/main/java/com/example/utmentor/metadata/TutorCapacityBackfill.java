@@ -0,0 +1,29 @@
+package com.example.utmentor.metadata;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.infrastructures.repository.Interface.TutorProfileRepository;
+
+/**
+ * Fills in {@code acceptingMentees} on tutor profiles created before the field existed.
+ * Only touches documents that lack the field, so it is a no-op after the first run.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TutorCapacityBackfill implements CommandLineRunner {
+
+    @Autowired
+    private TutorProfileRepository tutorProfileRepository;
+
+    @Override
+    public void run(String... args) {
+        long updated = tutorProfileRepository.backfillAcceptingMentees();
+        if (updated > 0) {
+            System.out.println("Backfilled acceptingMentees on " + updated + " tutor profile(s)");
+        }
+    }
+}
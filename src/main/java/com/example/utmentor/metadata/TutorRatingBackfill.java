@@ -0,0 +1,29 @@
+package com.example.utmentor.metadata;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.utmentor.infrastructures.repository.Interface.RatingRepository;
+
+/**
+ * Fills in ratingHistogram/ratingSum/ratingCount/ratingAvg on tutor profiles created before
+ * the counters existed, from the ratings collection. Only touches profiles without ratingSum.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TutorRatingBackfill implements CommandLineRunner {
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Override
+    public void run(String... args) {
+        long updated = ratingRepository.backfillTutorAggregates();
+        if (updated > 0) {
+            System.out.println("Backfilled rating counters on " + updated + " tutor profile(s)");
+        }
+    }
+}
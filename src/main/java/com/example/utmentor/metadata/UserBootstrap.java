@@ -53,187 +53,187 @@ public class UserBootstrap {
             // TODO: Add tutor data here
             // Example:
             // createVirtualTutor("tutor001", "Nguyễn Văn An", "an.nguyen@hcmut.edu.vn", Department.CS,
-            //         List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.DATA_SCIENCE), 5, 3, 4.8,
+            //         List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.DATA_SCIENCE), 5, 3,
             //         helper.helper.generatePhoneNumber("tutor001"),
             //         "Chuyên gia AI và học máy có kinh nghiệm nghiên cứu về khoa học dữ liệu.",
             //         Math.max(1, (int)(4.8 * 1.5)),
             //         Math.max(5, (int)(4.8 * 7)));
             createVirtualTutor("tutor001", "Nguyễn Văn An", "an.nguyen@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.DATA_SCIENCE), 5, 3, 4.8,
+            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.DATA_SCIENCE), 5, 3,
             helper.generatePhoneNumber("tutor001"),
             "Chuyên gia AI và học máy có kinh nghiệm nghiên cứu về khoa học dữ liệu.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor002", "Trần Thị Bình", "binh.tran@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.WEB_DEVELOPMENT, Expertise.DATABASE_DESIGN), 4, 2, 4.6,
+            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.WEB_DEVELOPMENT, Expertise.DATABASE_DESIGN), 4, 2,
             helper.generatePhoneNumber("tutor002"),
             "Chuyên gia AI và học máy có kinh nghiệm nghiên cứu về phát triển web.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor003", "Lê Văn Cường", "cuong.le@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.ALGORITHMS, Expertise.DATA_SCIENCE, Expertise.ARTIFICIAL_INTELLIGENCE), 6, 4, 4.9,
+            List.of(Expertise.ALGORITHMS, Expertise.DATA_SCIENCE, Expertise.ARTIFICIAL_INTELLIGENCE), 6, 4,
             helper.generatePhoneNumber("tutor003"),
             "Chuyên gia giải thuật tập trung vào lập trình thi đấu và khoa học dữ liệu.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor004", "Phạm Thị Dung", "dung.pham@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.CYBERSECURITY, Expertise.COMPUTER_NETWORKS, Expertise.ALGORITHMS), 3, 1, 4.7,
+            List.of(Expertise.CYBERSECURITY, Expertise.COMPUTER_NETWORKS, Expertise.ALGORITHMS), 3, 1,
             helper.generatePhoneNumber("tutor004"),
             "Chuyên gia an ninh mạng với kỹ năng kiểm thử xâm nhập trong mạng máy tính.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor005", "Hoàng Văn Em", "em.hoang@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.MOBILE_DEVELOPMENT, Expertise.WEB_DEVELOPMENT, Expertise.SOFTWARE_ENGINEERING), 4, 2, 4.5,
+            List.of(Expertise.MOBILE_DEVELOPMENT, Expertise.WEB_DEVELOPMENT, Expertise.SOFTWARE_ENGINEERING), 4, 2,
             helper.generatePhoneNumber("tutor005"),
             "Nhà phát triển ứng dụng di động cho iOS và Android có kinh nghiệm phát triển web.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor006", "Võ Thị Phương", "phuong.vo@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.WEB_DEVELOPMENT, Expertise.DATABASE_DESIGN, Expertise.SOFTWARE_ENGINEERING), 5, 3, 4.7,
+            List.of(Expertise.WEB_DEVELOPMENT, Expertise.DATABASE_DESIGN, Expertise.SOFTWARE_ENGINEERING), 5, 3,
             helper.generatePhoneNumber("tutor006"),
             "Nhà phát triển web full-stack có chuyên môn về các framework hiện đại trong thiết kế cơ sở dữ liệu.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor007", "Đặng Văn Quang", "quang.dang@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.DATA_SCIENCE, Expertise.ALGORITHMS), 6, 4, 4.8,
+            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.DATA_SCIENCE, Expertise.ALGORITHMS), 6, 4,
             helper.generatePhoneNumber("tutor007"),
             "Chuyên gia AI và học máy có kinh nghiệm nghiên cứu về khoa học dữ liệu và giải thuật.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor008", "Bùi Thị Hòa", "hoa.bui@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.ARTIFICIAL_INTELLIGENCE), 5, 2, 4.6,
+            List.of(Expertise.ARTIFICIAL_INTELLIGENCE), 5, 2,
             helper.generatePhoneNumber("tutor008"),
             "Chuyên gia AI và học máy có kinh nghiệm nghiên cứu.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor009", "Ngô Văn Ính", "inh.ngo@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.DATABASE_DESIGN, Expertise.WEB_DEVELOPMENT, Expertise.SOFTWARE_ENGINEERING), 4, 3, 4.5,
+            List.of(Expertise.DATABASE_DESIGN, Expertise.WEB_DEVELOPMENT, Expertise.SOFTWARE_ENGINEERING), 4, 3,
             helper.generatePhoneNumber("tutor009"),
             "Kiến trúc sư cơ sở dữ liệu chuyên về tối ưu hóa và thiết kế cho phát triển web.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor010", "Đỗ Thị Kim", "kim.do@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.MOBILE_DEVELOPMENT, Expertise.SOFTWARE_ENGINEERING), 5, 2, 4.7,
+            List.of(Expertise.MOBILE_DEVELOPMENT, Expertise.SOFTWARE_ENGINEERING), 5, 2,
             helper.generatePhoneNumber("tutor010"),
             "Nhà phát triển ứng dụng di động cho iOS và Android, tập trung vào kỹ thuật phần mềm.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor011", "Trương Văn Long", "long.truong@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.CYBERSECURITY, Expertise.COMPUTER_NETWORKS), 6, 5, 4.9,
+            List.of(Expertise.CYBERSECURITY, Expertise.COMPUTER_NETWORKS), 6, 5,
             helper.generatePhoneNumber("tutor011"),
             "Chuyên gia an ninh mạng với kỹ năng kiểm thử xâm nhập trong mạng máy tính.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor012", "Nguyễn Thị Mai", "mai.nguyen@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.ALGORITHMS, Expertise.SOFTWARE_ENGINEERING), 4, 2, 4.6,
+            List.of(Expertise.ALGORITHMS, Expertise.SOFTWARE_ENGINEERING), 4, 2,
             helper.generatePhoneNumber("tutor012"),
             "Chuyên gia giải thuật tập trung vào lập trình thi đấu và kỹ thuật phần mềm.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor013", "Phan Văn Nam", "nam.phan@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.WEB_DEVELOPMENT, Expertise.MOBILE_DEVELOPMENT, Expertise.DATABASE_DESIGN), 5, 3, 4.7,
+            List.of(Expertise.WEB_DEVELOPMENT, Expertise.MOBILE_DEVELOPMENT, Expertise.DATABASE_DESIGN), 5, 3,
             helper.generatePhoneNumber("tutor013"),
             "Nhà phát triển web full-stack có chuyên môn về các framework hiện đại trong phát triển di động.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor014", "Lê Thị Oanh", "oanh.le@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.DATA_SCIENCE, Expertise.ARTIFICIAL_INTELLIGENCE), 4, 2, 4.5,
+            List.of(Expertise.DATA_SCIENCE, Expertise.ARTIFICIAL_INTELLIGENCE), 4, 2,
             helper.generatePhoneNumber("tutor014"),
             "Nhà khoa học dữ liệu có kinh nghiệm lập mô hình thống kê trong trí tuệ nhân tạo.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor015", "Trần Văn Phúc", "phuc.tran@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.ALGORITHMS), 6, 4, 4.8,
+            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.ALGORITHMS), 6, 4,
             helper.generatePhoneNumber("tutor015"),
             "Chuyên gia AI và học máy có kinh nghiệm nghiên cứu về giải thuật.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor016", "Hoàng Thị Quỳnh", "quynh.hoang@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.SOFTWARE_ENGINEERING, Expertise.DATABASE_DESIGN), 5, 3, 4.6,
+            List.of(Expertise.SOFTWARE_ENGINEERING, Expertise.DATABASE_DESIGN), 5, 3,
             helper.generatePhoneNumber("tutor016"),
             "Kỹ sư phần mềm có kinh nghiệm phát triển Agile trong thiết kế cơ sở dữ liệu.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor017", "Nguyễn Văn Sang", "sang.nguyen@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.CYBERSECURITY, Expertise.ALGORITHMS, Expertise.COMPUTER_NETWORKS), 4, 2, 4.7,
+            List.of(Expertise.CYBERSECURITY, Expertise.ALGORITHMS, Expertise.COMPUTER_NETWORKS), 4, 2,
             helper.generatePhoneNumber("tutor017"),
             "Chuyên gia an ninh mạng với kỹ năng kiểm thử xâm nhập trong lĩnh vực giải thuật.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor018", "Phạm Thị Thảo", "thao.pham@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.MOBILE_DEVELOPMENT, Expertise.WEB_DEVELOPMENT), 5, 2, 4.5,
+            List.of(Expertise.MOBILE_DEVELOPMENT, Expertise.WEB_DEVELOPMENT), 5, 2,
             helper.generatePhoneNumber("tutor018"),
             "Nhà phát triển ứng dụng di động cho iOS và Android có kinh nghiệm phát triển web.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor019", "Lê Văn Uyên", "uyen.le@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.DATA_SCIENCE), 6, 5, 4.9,
+            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.DATA_SCIENCE), 6, 5,
             helper.generatePhoneNumber("tutor019"),
             "Chuyên gia AI và học máy có kinh nghiệm nghiên cứu các ứng dụng khoa học dữ liệu.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor020", "Trần Thị Vân", "van.tran@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.DATABASE_DESIGN, Expertise.SOFTWARE_ENGINEERING), 4, 3, 4.6,
+            List.of(Expertise.DATABASE_DESIGN, Expertise.SOFTWARE_ENGINEERING), 4, 3,
             helper.generatePhoneNumber("tutor020"),
             "Kiến trúc sư cơ sở dữ liệu chuyên về tối ưu hóa và thiết kế cho kỹ thuật phần mềm.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor021", "Nguyễn Văn Xuân", "xuan.nguyen@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.WEB_DEVELOPMENT, Expertise.SOFTWARE_ENGINEERING, Expertise.ALGORITHMS), 5, 2, 4.7,
+            List.of(Expertise.WEB_DEVELOPMENT, Expertise.SOFTWARE_ENGINEERING, Expertise.ALGORITHMS), 5, 2,
             helper.generatePhoneNumber("tutor021"),
             "Nhà phát triển web full-stack có chuyên môn về các framework hiện đại trong kỹ thuật phần mềm.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor022", "Võ Thị Yến", "yen.vo@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.ARTIFICIAL_INTELLIGENCE), 6, 4, 4.8,
+            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.ARTIFICIAL_INTELLIGENCE), 6, 4,
             helper.generatePhoneNumber("tutor022"),
             "Chuyên gia AI và học máy có kinh nghiệm nghiên cứu.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor023", "Đặng Văn An", "an.dang@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.CYBERSECURITY, Expertise.SOFTWARE_ENGINEERING), 4, 2, 4.5,
+            List.of(Expertise.CYBERSECURITY, Expertise.SOFTWARE_ENGINEERING), 4, 2,
             helper.generatePhoneNumber("tutor023"),
             "Chuyên gia an ninh mạng với kỹ năng kiểm thử xâm nhập trong kỹ thuật phần mềm.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor024", "Bùi Thị Bảo", "bao.bui@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.DATA_SCIENCE, Expertise.ALGORITHMS), 5, 3, 4.6,
+            List.of(Expertise.DATA_SCIENCE, Expertise.ALGORITHMS), 5, 3,
             helper.generatePhoneNumber("tutor024"),
             "Nhà khoa học dữ liệu có kinh nghiệm lập mô hình thống kê trong giải thuật.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor025", "Ngô Văn Cao", "cao.ngo@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.MOBILE_DEVELOPMENT, Expertise.SOFTWARE_ENGINEERING), 4, 2, 4.7,
+            List.of(Expertise.MOBILE_DEVELOPMENT, Expertise.SOFTWARE_ENGINEERING), 4, 2,
             helper.generatePhoneNumber("tutor025"),
             "Nhà phát triển ứng dụng di động cho iOS và Android có kinh nghiệm kỹ thuật phần mềm.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor026", "Đỗ Thị Đào", "dao.do@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.WEB_DEVELOPMENT, Expertise.DATABASE_DESIGN, Expertise.SOFTWARE_ENGINEERING), 5, 3, 4.5,
+            List.of(Expertise.WEB_DEVELOPMENT, Expertise.DATABASE_DESIGN, Expertise.SOFTWARE_ENGINEERING), 5, 3,
             helper.generatePhoneNumber("tutor026"),
             "Nhà phát triển web full-stack có chuyên môn về các framework hiện đại trong thiết kế cơ sở dữ liệu.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor027", "Trương Văn Hải", "hai.truong@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.DATA_SCIENCE), 6, 5, 4.9,
+            List.of(Expertise.ARTIFICIAL_INTELLIGENCE, Expertise.DATA_SCIENCE), 6, 5,
             helper.generatePhoneNumber("tutor027"),
             "Chuyên gia AI và học máy có kinh nghiệm nghiên cứu về khoa học dữ liệu.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor028", "Nguyễn Thị Huệ", "hue.nguyen@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.ALGORITHMS, Expertise.ARTIFICIAL_INTELLIGENCE), 4, 2, 4.6,
+            List.of(Expertise.ALGORITHMS, Expertise.ARTIFICIAL_INTELLIGENCE), 4, 2,
             helper.generatePhoneNumber("tutor028"),
             "Chuyên gia giải thuật tập trung vào lập trình thi đấu có ứng dụng AI.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor029", "Phan Văn Khoa", "khoa.phan@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.CYBERSECURITY, Expertise.COMPUTER_NETWORKS, Expertise.ALGORITHMS), 5, 3, 4.8,
+            List.of(Expertise.CYBERSECURITY, Expertise.COMPUTER_NETWORKS, Expertise.ALGORITHMS), 5, 3,
             helper.generatePhoneNumber("tutor029"),
             "Chuyên gia an ninh mạng với kỹ năng kiểm thử xâm nhập trong mạng máy tính.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor030", "Lê Thị Lan", "lan.le@hcmut.edu.vn", Department.CS,
-            List.of(Expertise.SOFTWARE_ENGINEERING, Expertise.WEB_DEVELOPMENT), 4, 2, 4.5,
+            List.of(Expertise.SOFTWARE_ENGINEERING, Expertise.WEB_DEVELOPMENT), 4, 2,
             helper.generatePhoneNumber("tutor030"),
             "Kỹ sư phần mềm có kinh nghiệm phát triển Agile trong phát triển web.",
             Math.max(1, (int)(4.5 * 1.5)),
@@ -241,121 +241,121 @@ public class UserBootstrap {
 
     // Computer Engineering Department (20 tutors)
     createVirtualTutor("tutor031", "Trần Văn Minh", "minh.tran@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 6, 4, 4.9,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 6, 4,
             helper.generatePhoneNumber("tutor031"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong xử lý tín hiệu.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor032", "Hoàng Thị Nga", "nga.hoang@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.EMBEDDED_SYSTEMS), 5, 3, 4.7,
+            List.of(Expertise.EMBEDDED_SYSTEMS), 5, 3,
             helper.generatePhoneNumber("tutor032"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor033", "Nguyễn Văn Phong", "phong.nguyen@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 4, 2, 4.6,
+            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 4, 2,
             helper.generatePhoneNumber("tutor033"),
             "Chuyên gia xử lý tín hiệu trong truyền thông số có kinh nghiệm về hệ thống điều khiển.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor034", "Phạm Thị Quỳnh", "quynh.pham@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.EMBEDDED_SYSTEMS), 5, 3, 4.8,
+            List.of(Expertise.EMBEDDED_SYSTEMS), 5, 3,
             helper.generatePhoneNumber("tutor034"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor035", "Lê Văn Tâm", "tam.le@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS), 6, 5, 4.9,
+            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS), 6, 5,
             helper.generatePhoneNumber("tutor035"),
             "Kỹ sư hệ thống điều khiển có chuyên môn tự động hóa trong xử lý tín hiệu.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor036", "Trần Thị Uyên", "uyen.tran@hcmut.edu.vn", Department.CE,
-            List.of( Expertise.EMBEDDED_SYSTEMS), 4, 2, 4.5,
+            List.of( Expertise.EMBEDDED_SYSTEMS), 4, 2,
             helper.generatePhoneNumber("tutor036"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor037", "Nguyễn Văn Vinh", "vinh.nguyen@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 5, 3, 4.7,
+            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 5, 3,
             helper.generatePhoneNumber("tutor037"),
             "Chuyên gia xử lý tín hiệu trong truyền thông số có kinh nghiệm về hệ thống điều khiển.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor038", "Võ Thị Xuân", "xuan.vo@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING), 4, 2, 4.6,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING), 4, 2,
             helper.generatePhoneNumber("tutor038"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong xử lý tín hiệu.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor039", "Đặng Văn Yến", "yen.dang@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.CONTROL_SYSTEMS), 6, 4, 4.8,
+            List.of(Expertise.CONTROL_SYSTEMS), 6, 4,
             helper.generatePhoneNumber("tutor039"),
             "Kỹ sư hệ thống điều khiển có chuyên môn về tự động hóa.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor040", "Bùi Thị Anh", "anh.bui@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 5, 3, 4.7,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 5, 3,
             helper.generatePhoneNumber("tutor040"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong xử lý tín hiệu và hệ thống điều khiển.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor041", "Ngô Văn Bình", "binh.ngo@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.EMBEDDED_SYSTEMS), 4, 2, 4.5,
+            List.of(Expertise.EMBEDDED_SYSTEMS), 4, 2,
             helper.generatePhoneNumber("tutor041"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor042", "Đỗ Thị Châu", "chau.do@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 5, 3, 4.6,
+            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 5, 3,
             helper.generatePhoneNumber("tutor042"),
             "Chuyên gia xử lý tín hiệu trong truyền thông số có kinh nghiệm về hệ thống điều khiển.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor043", "Trương Văn Dũng", "dung.truong@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING), 6, 5, 4.9,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING), 6, 5,
             helper.generatePhoneNumber("tutor043"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong xử lý tín hiệu.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor044", "Nguyễn Thị Giang", "giang.nguyen@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING), 4, 2, 4.7,
+            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING), 4, 2,
             helper.generatePhoneNumber("tutor044"),
             "Kỹ sư hệ thống điều khiển có chuyên môn tự động hóa trong xử lý tín hiệu.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor045", "Phan Văn Hùng", "hung.phan@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.CONTROL_SYSTEMS), 5, 3, 4.6,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.CONTROL_SYSTEMS), 5, 3,
             helper.generatePhoneNumber("tutor045"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong hệ thống điều khiển.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor046", "Lê Thị Khánh", "khanh.le@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 4, 2, 4.8,
+            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 4, 2,
             helper.generatePhoneNumber("tutor046"),
             "Chuyên gia xử lý tín hiệu trong truyền thông số có kinh nghiệm về hệ thống điều khiển.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor047", "Trần Văn Lâm", "lam.tran@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS, Expertise.EMBEDDED_SYSTEMS), 6, 4, 4.9,
+            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS, Expertise.EMBEDDED_SYSTEMS), 6, 4,
             helper.generatePhoneNumber("tutor047"),
             "Chuyên gia xử lý tín hiệu trong truyền thông số có kinh nghiệm về hệ thống điều khiển và nhúng.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor048", "Hoàng Thị Mỹ", "my.hoang@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.EMBEDDED_SYSTEMS), 5, 3, 4.5,
+            List.of(Expertise.EMBEDDED_SYSTEMS), 5, 3,
             helper.generatePhoneNumber("tutor048"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor049", "Nguyễn Văn Nghĩa", "nghia.nguyen@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING), 4, 2, 4.7,
+            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING), 4, 2,
             helper.generatePhoneNumber("tutor049"),
             "Kỹ sư hệ thống điều khiển có chuyên môn tự động hóa trong xử lý tín hiệu.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor050", "Phạm Thị Oanh", "oanh.pham@hcmut.edu.vn", Department.CE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING), 5, 3, 4.6,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING), 5, 3,
             helper.generatePhoneNumber("tutor050"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong xử lý tín hiệu.",
             Math.max(1, (int)(4.6 * 1.5)),
@@ -363,121 +363,121 @@ public class UserBootstrap {
 
     // Electronic Engineering Department (20 tutors)
     createVirtualTutor("tutor051", "Lê Văn Phúc", "phuc.le@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS), 6, 4, 4.9,
+            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS), 6, 4,
             helper.generatePhoneNumber("tutor051"),
             "Kỹ sư hệ thống điều khiển có chuyên môn tự động hóa trong xử lý tín hiệu.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor052", "Trần Thị Quý", "quy.tran@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 5, 3, 4.7,
+            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 5, 3,
             helper.generatePhoneNumber("tutor052"),
             "Chuyên gia xử lý tín hiệu trong truyền thông số có kinh nghiệm về hệ thống điều khiển.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor053", "Nguyễn Văn Sơn", "son.nguyen@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.CONTROL_SYSTEMS), 4, 2, 4.6,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.CONTROL_SYSTEMS), 4, 2,
             helper.generatePhoneNumber("tutor053"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong hệ thống điều khiển.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor054", "Võ Thị Thu", "thu.vo@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS), 5, 3, 4.8,
+            List.of(Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS), 5, 3,
             helper.generatePhoneNumber("tutor054"),
             "Chuyên gia xử lý tín hiệu trong truyền thông số có kinh nghiệm về hệ thống nhúng.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor055", "Đặng Văn Tuấn", "tuan.dang@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS), 6, 5, 4.9,
+            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS), 6, 5,
             helper.generatePhoneNumber("tutor055"),
             "Kỹ sư hệ thống điều khiển có chuyên môn tự động hóa trong xử lý tín hiệu và hệ thống nhúng.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor056", "Bùi Thị Vân", "van.bui@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING), 4, 2, 4.5,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING), 4, 2,
             helper.generatePhoneNumber("tutor056"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong xử lý tín hiệu.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor057", "Ngô Văn Xuân", "xuan.ngo@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING), 5, 3, 4.7,
+            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING), 5, 3,
             helper.generatePhoneNumber("tutor057"),
             "Kỹ sư hệ thống điều khiển có chuyên môn tự động hóa trong xử lý tín hiệu.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor058", "Đỗ Thị Yến", "yen.do@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.CONTROL_SYSTEMS), 4, 2, 4.6,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.CONTROL_SYSTEMS), 4, 2,
             helper.generatePhoneNumber("tutor058"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong hệ thống điều khiển.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor059", "Trương Văn An", "an.truong@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS, Expertise.CONTROL_SYSTEMS), 6, 4, 4.8,
+            List.of(Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS, Expertise.CONTROL_SYSTEMS), 6, 4,
             helper.generatePhoneNumber("tutor059"),
             "Chuyên gia xử lý tín hiệu trong truyền thông số có kinh nghiệm về hệ thống nhúng.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor060", "Nguyễn Thị Bích", "bich.nguyen@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING), 5, 3, 4.7,
+            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING), 5, 3,
             helper.generatePhoneNumber("tutor060"),
             "Kỹ sư hệ thống điều khiển có chuyên môn tự động hóa trong xử lý tín hiệu.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor061", "Phan Văn Cường", "cuong.phan@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.CONTROL_SYSTEMS), 4, 2, 4.5,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.CONTROL_SYSTEMS), 4, 2,
             helper.generatePhoneNumber("tutor061"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong hệ thống điều khiển.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor062", "Lê Thị Duyên", "duyen.le@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS), 5, 3, 4.6,
+            List.of(Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS), 5, 3,
             helper.generatePhoneNumber("tutor062"),
             "Chuyên gia xử lý tín hiệu trong truyền thông số có kinh nghiệm về hệ thống nhúng.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor063", "Trần Văn Hiếu", "hieu.tran@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS), 6, 5, 4.9,
+            List.of(Expertise.CONTROL_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.EMBEDDED_SYSTEMS), 6, 5,
             helper.generatePhoneNumber("tutor063"),
             "Kỹ sư hệ thống điều khiển có chuyên môn tự động hóa trong xử lý tín hiệu và hệ thống nhúng.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor064", "Hoàng Thị Kim", "kim.hoang@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING), 4, 2, 4.7,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING), 4, 2,
             helper.generatePhoneNumber("tutor064"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong xử lý tín hiệu.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor065", "Nguyễn Văn Lộc", "loc.nguyen@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.CONTROL_SYSTEMS, Expertise.EMBEDDED_SYSTEMS), 5, 3, 4.6,
+            List.of(Expertise.CONTROL_SYSTEMS, Expertise.EMBEDDED_SYSTEMS), 5, 3,
             helper.generatePhoneNumber("tutor065"),
             "Kỹ sư hệ thống điều khiển có chuyên môn tự động hóa trong hệ thống nhúng.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor066", "Phạm Thị Minh", "minh.pham@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 4, 2, 4.8,
+            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 4, 2,
             helper.generatePhoneNumber("tutor066"),
             "Chuyên gia xử lý tín hiệu trong truyền thông số có kinh nghiệm về hệ thống điều khiển.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor067", "Lê Văn Nhật", "nhat.le@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 6, 4, 4.9,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 6, 4,
             helper.generatePhoneNumber("tutor067"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong xử lý tín hiệu và điều khiển.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor068", "Trần Thị Phương", "phuong.tran@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.CONTROL_SYSTEMS, Expertise.EMBEDDED_SYSTEMS), 5, 3, 4.5,
+            List.of(Expertise.CONTROL_SYSTEMS, Expertise.EMBEDDED_SYSTEMS), 5, 3,
             helper.generatePhoneNumber("tutor068"),
             "Kỹ sư hệ thống điều khiển có chuyên môn tự động hóa trong hệ thống nhúng.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor069", "Nguyễn Văn Quang", "quang.nguyen@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 4, 2, 4.7,
+            List.of(Expertise.SIGNAL_PROCESSING, Expertise.CONTROL_SYSTEMS), 4, 2,
             helper.generatePhoneNumber("tutor069"),
             "Chuyên gia xử lý tín hiệu trong truyền thông số có kinh nghiệm về hệ thống điều khiển.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor070", "Võ Thị Thanh", "thanh.vo@hcmut.edu.vn", Department.EE,
-            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING), 5, 3, 4.6,
+            List.of(Expertise.EMBEDDED_SYSTEMS, Expertise.SIGNAL_PROCESSING), 5, 3,
             helper.generatePhoneNumber("tutor070"),
             "Kỹ sư hệ thống nhúng có kinh nghiệm IoT trong xử lý tín hiệu.",
             Math.max(1, (int)(4.6 * 1.5)),
@@ -485,91 +485,91 @@ public class UserBootstrap {
 
     // Mechanical Engineering Department (15 tutors)
     createVirtualTutor("tutor071", "Đặng Văn Tiến", "tien.dang@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.THERMODYNAMICS, Expertise.MECHANICAL_DESIGN), 6, 4, 4.8,
+            List.of(Expertise.THERMODYNAMICS, Expertise.MECHANICAL_DESIGN), 6, 4,
             helper.generatePhoneNumber("tutor071"),
             "Chuyên gia nhiệt động lực học trong hệ thống năng lượng có kinh nghiệm thiết kế cơ khí.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor072", "Bùi Thị Uyên", "uyen.bui@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.MECHANICAL_DESIGN, Expertise.MATERIALS_SCIENCE), 5, 3, 4.7,
+            List.of(Expertise.MECHANICAL_DESIGN, Expertise.MATERIALS_SCIENCE), 5, 3,
             helper.generatePhoneNumber("tutor072"),
             "Nhà thiết kế cơ khí có trình độ CAD/CAM trong khoa học vật liệu.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor073", "Ngô Văn Vinh", "vinh.ngo@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.THERMODYNAMICS, Expertise.MECHANICAL_DESIGN), 4, 2, 4.6,
+            List.of(Expertise.THERMODYNAMICS, Expertise.MECHANICAL_DESIGN), 4, 2,
             helper.generatePhoneNumber("tutor073"),
             "Chuyên gia nhiệt động lực học trong hệ thống năng lượng có kinh nghiệm thiết kế cơ khí.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor074", "Đỗ Thị Xuân", "xuan.do@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.MECHANICAL_DESIGN, Expertise.THERMODYNAMICS), 5, 3, 4.5,
+            List.of(Expertise.MECHANICAL_DESIGN, Expertise.THERMODYNAMICS), 5, 3,
             helper.generatePhoneNumber("tutor074"),
             "Nhà thiết kế cơ khí có trình độ CAD/CAM trong nhiệt động lực học.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor075", "Trương Văn Yến", "yen.truong@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.MATERIALS_SCIENCE, Expertise.MECHANICAL_DESIGN), 6, 5, 4.9,
+            List.of(Expertise.MATERIALS_SCIENCE, Expertise.MECHANICAL_DESIGN), 6, 5,
             helper.generatePhoneNumber("tutor075"),
             "Nhà khoa học vật liệu nghiên cứu vật liệu tiên tiến có kinh nghiệm thiết kế cơ khí.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor076", "Nguyễn Thị Ánh", "anh.nguyen2@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.THERMODYNAMICS, Expertise.MECHANICAL_DESIGN), 4, 2, 4.7,
+            List.of(Expertise.THERMODYNAMICS, Expertise.MECHANICAL_DESIGN), 4, 2,
             helper.generatePhoneNumber("tutor076"),
             "Chuyên gia nhiệt động lực học trong hệ thống năng lượng có kinh nghiệm thiết kế cơ khí.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor077", "Phan Văn Bình", "binh.phan@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.MECHANICAL_DESIGN, Expertise.MATERIALS_SCIENCE), 5, 3, 4.6,
+            List.of(Expertise.MECHANICAL_DESIGN, Expertise.MATERIALS_SCIENCE), 5, 3,
             helper.generatePhoneNumber("tutor077"),
             "Nhà thiết kế cơ khí có trình độ CAD/CAM trong khoa học vật liệu.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor078", "Lê Thị Châu", "chau.le@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.THERMODYNAMICS, Expertise.MECHANICAL_DESIGN), 4, 2, 4.8,
+            List.of(Expertise.THERMODYNAMICS, Expertise.MECHANICAL_DESIGN), 4, 2,
             helper.generatePhoneNumber("tutor078"),
             "Chuyên gia nhiệt động lực học trong hệ thống năng lượng có kinh nghiệm thiết kế cơ khí.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor079", "Trần Văn Duy", "duy.tran@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.MECHANICAL_DESIGN, Expertise.THERMODYNAMICS, Expertise.MATERIALS_SCIENCE), 6, 4, 4.9,
+            List.of(Expertise.MECHANICAL_DESIGN, Expertise.THERMODYNAMICS, Expertise.MATERIALS_SCIENCE), 6, 4,
             helper.generatePhoneNumber("tutor079"),
             "Nhà thiết kế cơ khí có trình độ CAD/CAM trong nhiệt động lực học và vật liệu.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor080", "Hoàng Thị Hà", "ha.hoang@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.MATERIALS_SCIENCE, Expertise.MECHANICAL_DESIGN), 5, 3, 4.5,
+            List.of(Expertise.MATERIALS_SCIENCE, Expertise.MECHANICAL_DESIGN), 5, 3,
             helper.generatePhoneNumber("tutor080"),
             "Nhà khoa học vật liệu nghiên cứu vật liệu tiên tiến có kinh nghiệm thiết kế cơ khí.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor081", "Nguyễn Văn Kiên", "kien.nguyen@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.THERMODYNAMICS, Expertise.MECHANICAL_DESIGN), 4, 2, 4.7,
+            List.of(Expertise.THERMODYNAMICS, Expertise.MECHANICAL_DESIGN), 4, 2,
             helper.generatePhoneNumber("tutor081"),
             "Chuyên gia nhiệt động lực học trong hệ thống năng lượng có kinh nghiệm thiết kế cơ khí.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor082", "Phạm Thị Linh", "linh.pham@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.MECHANICAL_DESIGN, Expertise.MATERIALS_SCIENCE), 5, 3, 4.6,
+            List.of(Expertise.MECHANICAL_DESIGN, Expertise.MATERIALS_SCIENCE), 5, 3,
             helper.generatePhoneNumber("tutor082"),
             "Nhà thiết kế cơ khí có trình độ CAD/CAM trong khoa học vật liệu.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor083", "Lê Văn Mạnh", "manh.le@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.THERMODYNAMICS, Expertise.MECHANICAL_DESIGN), 6, 5, 4.8,
+            List.of(Expertise.THERMODYNAMICS, Expertise.MECHANICAL_DESIGN), 6, 5,
             helper.generatePhoneNumber("tutor083"),
             "Chuyên gia nhiệt động lực học trong hệ thống năng lượng có kinh nghiệm thiết kế cơ khí.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor084", "Trần Thị Nga", "nga.tran@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.MECHANICAL_DESIGN, Expertise.THERMODYNAMICS), 4, 2, 4.5,
+            List.of(Expertise.MECHANICAL_DESIGN, Expertise.THERMODYNAMICS), 4, 2,
             helper.generatePhoneNumber("tutor084"),
             "Nhà thiết kế cơ khí có trình độ CAD/CAM trong nhiệt động lực học.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor085", "Nguyễn Văn Phát", "phat.nguyen@hcmut.edu.vn", Department.ME,
-            List.of(Expertise.MATERIALS_SCIENCE, Expertise.MECHANICAL_DESIGN), 5, 3, 4.7,
+            List.of(Expertise.MATERIALS_SCIENCE, Expertise.MECHANICAL_DESIGN), 5, 3,
             helper.generatePhoneNumber("tutor085"),
             "Nhà khoa học vật liệu nghiên cứu vật liệu tiên tiến có kinh nghiệm thiết kế cơ khí.",
             Math.max(1, (int)(4.7 * 1.5)),
@@ -577,91 +577,91 @@ public class UserBootstrap {
 
     // Chemical Engineering Department (15 tutors)
     createVirtualTutor("tutor086", "Võ Thị Quỳnh", "quynh.vo2@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 6, 4, 4.8,
+            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 6, 4,
             helper.generatePhoneNumber("tutor086"),
             "Kỹ sư quy trình tối ưu hóa quy trình công nghiệp có kinh nghiệm về khoa học vật liệu.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor087", "Đặng Văn Sang", "sang.dang@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 5, 3, 4.7,
+            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 5, 3,
             helper.generatePhoneNumber("tutor087"),
             "Nhà khoa học vật liệu nghiên cứu vật liệu tiên tiến có kinh nghiệm về kỹ thuật quy trình.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor088", "Bùi Thị Thủy", "thuy.bui@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 4, 2, 4.6,
+            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 4, 2,
             helper.generatePhoneNumber("tutor088"),
             "Kỹ sư quy trình tối ưu hóa quy trình công nghiệp có kinh nghiệm về khoa học vật liệu.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor089", "Ngô Văn Tùng", "tung.ngo@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 5, 3, 4.5,
+            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 5, 3,
             helper.generatePhoneNumber("tutor089"),
             "Nhà khoa học vật liệu nghiên cứu vật liệu tiên tiến có kinh nghiệm về kỹ thuật quy trình.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor090", "Đỗ Thị Vân", "van.do2@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 6, 5, 4.9,
+            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 6, 5,
             helper.generatePhoneNumber("tutor090"),
             "Kỹ sư quy trình tối ưu hóa quy trình công nghiệp có kinh nghiệm về khoa học vật liệu.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor091", "Trương Văn Xuân", "xuan.truong2@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 4, 2, 4.7,
+            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 4, 2,
             helper.generatePhoneNumber("tutor091"),
             "Nhà khoa học vật liệu nghiên cứu vật liệu tiên tiến có kinh nghiệm về kỹ thuật quy trình.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor092", "Nguyễn Thị Yến", "yen.nguyen@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 5, 3, 4.6,
+            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 5, 3,
             helper.generatePhoneNumber("tutor092"),
             "Kỹ sư quy trình tối ưu hóa quy trình công nghiệp có kinh nghiệm về khoa học vật liệu.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor093", "Phan Văn Anh", "anh.phan@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 4, 2, 4.8,
+            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 4, 2,
             helper.generatePhoneNumber("tutor093"),
             "Nhà khoa học vật liệu nghiên cứu vật liệu tiên tiến có kinh nghiệm về kỹ thuật quy trình.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor094", "Lê Thị Bảo", "bao.le@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 6, 4, 4.9,
+            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 6, 4,
             helper.generatePhoneNumber("tutor094"),
             "Kỹ sư quy trình tối ưu hóa quy trình công nghiệp có kinh nghiệm về khoa học vật liệu.",
             Math.max(1, (int)(4.9 * 1.5)),
             Math.max(5, (int)(4.9 * 7)));
     createVirtualTutor("tutor095", "Trần Văn Cường", "cuong.tran2@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 5, 3, 4.5,
+            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 5, 3,
             helper.generatePhoneNumber("tutor095"),
             "Nhà khoa học vật liệu nghiên cứu vật liệu tiên tiến có kinh nghiệm về kỹ thuật quy trình.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor096", "Hoàng Thị Diễm", "diem.hoang@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 4, 2, 4.7,
+            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 4, 2,
             helper.generatePhoneNumber("tutor096"),
             "Kỹ sư quy trình tối ưu hóa quy trình công nghiệp có kinh nghiệm về khoa học vật liệu.",
             Math.max(1, (int)(4.7 * 1.5)),
             Math.max(5, (int)(4.7 * 7)));
     createVirtualTutor("tutor097", "Nguyễn Văn Huy", "huy.nguyen@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 5, 3, 4.6,
+            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 5, 3,
             helper.generatePhoneNumber("tutor097"),
             "Nhà khoa học vật liệu nghiên cứu vật liệu tiên tiến có kinh nghiệm về kỹ thuật quy trình.",
             Math.max(1, (int)(4.6 * 1.5)),
             Math.max(5, (int)(4.6 * 7)));
     createVirtualTutor("tutor098", "Phạm Thị Kiều", "kieu.pham@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 6, 5, 4.8,
+            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 6, 5,
             helper.generatePhoneNumber("tutor098"),
             "Kỹ sư quy trình tối ưu hóa quy trình công nghiệp có kinh nghiệm về khoa học vật liệu.",
             Math.max(1, (int)(4.8 * 1.5)),
             Math.max(5, (int)(4.8 * 7)));
     createVirtualTutor("tutor099", "Lê Văn Long", "long.le@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 4, 2, 4.5,
+            List.of(Expertise.MATERIALS_SCIENCE, Expertise.PROCESS_ENGINEERING), 4, 2,
             helper.generatePhoneNumber("tutor099"),
             "Nhà khoa học vật liệu nghiên cứu vật liệu tiên tiến có kinh nghiệm về kỹ thuật quy trình.",
             Math.max(1, (int)(4.5 * 1.5)),
             Math.max(5, (int)(4.5 * 7)));
     createVirtualTutor("tutor100", "Trần Thị Mai", "mai.tran@hcmut.edu.vn", Department.CH,
-            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 5, 3, 4.7,
+            List.of(Expertise.PROCESS_ENGINEERING, Expertise.MATERIALS_SCIENCE), 5, 3,
             helper.generatePhoneNumber("tutor100"),
             "Kỹ sư quy trình tối ưu hóa quy trình công nghiệp có kinh nghiệm về khoa học vật liệu.",
             Math.max(1, (int)(4.7 * 1.5)),
@@ -681,7 +681,7 @@ public class UserBootstrap {
      */
     public void createVirtualTutor(String tutorId, String fullName, String email,
                                    Department department, List<Expertise> expertise,
-                                   int maxCapacity, int currentMentees, double rating,
+                                   int maxCapacity, int currentMentees,
                                    String phoneNumber, String tutorDescription,
                                    int yearsOfExperience, int totalStudentTaught) {
         try {
@@ -735,8 +735,7 @@ public class UserBootstrap {
                     currentMentees
             );
 
-            tutorProfile.setRatingCount((int)(rating * 10));
-            tutorProfile.setRatingAvg(rating);
+            // ratingCount/ratingAvg are derived from the reviews created by ReviewBootstrap
             tutorProfile.setTutorDescription(tutorDescription);
             tutorProfile.setYearsOfExperience(yearsOfExperience);
             tutorProfile.setTotalStudentTaught(totalStudentTaught);
@@ -2,12 +2,18 @@ package com.example.utmentor.models.docEntities.Connection;
 
 import java.time.Instant;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
  * Connection entity representing a connection request between student and tutor.
  */
 @Document(collection = "connections")
+@CompoundIndexes({
+        // one connection per pair; studentId first so per-student status loads can use it too
+        @CompoundIndex(name = "student_tutor", def = "{'studentId': 1, 'tutorId': 1}", unique = true)
+})
 public class Connection {
 
     @Id
@@ -91,6 +97,10 @@ public class Connection {
         this.createdAt = createdAt;
     }
 
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
     @Override
     public String toString() {
         return "Connection{" +
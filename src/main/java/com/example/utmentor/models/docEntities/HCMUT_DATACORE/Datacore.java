@@ -6,8 +6,18 @@ import com.example.utmentor.models.docEntities.users.StudentProfile;
 import com.example.utmentor.models.docEntities.users.TutorProfile;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+
+@Document(collection = "datacore")
+@CompoundIndexes({
+        // admin listing/export: filter on isDeleted plus department or role, paged by _id
+        @CompoundIndex(name = "isDeleted_department_id", def = "{'isDeleted': 1, 'department': 1, '_id': 1}"),
+        @CompoundIndex(name = "isDeleted_role_id", def = "{'isDeleted': 1, 'role': 1, '_id': 1}")
+})
 public class Datacore {
     @NotBlank
     @Indexed(unique = true)
@@ -0,0 +1,55 @@
+package com.example.utmentor.models.docEntities.HCMUT_DATACORE;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Progress of one datacore import. {@code committedRows} counts the data rows whose batch
+ * has been written; re-uploading with the same import id skips them.
+ */
+@Document(collection = "datacoreImports")
+public class DatacoreImportCheckpoint {
+
+    public enum Status { RUNNING, COMPLETED }
+
+    @Id
+    private String id;
+
+    private String format;
+
+    private long committedRows;
+
+    private long inserted;
+
+    private long duplicates;
+
+    private long invalid;
+
+    private Status status;
+
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    public DatacoreImportCheckpoint() {}
+
+    public String getId() { return id; }
+
+    public String getFormat() { return format; }
+
+    public long getCommittedRows() { return committedRows; }
+
+    public long getInserted() { return inserted; }
+
+    public long getDuplicates() { return duplicates; }
+
+    public long getInvalid() { return invalid; }
+
+    public Status getStatus() { return status; }
+
+    public Instant getCreatedAt() { return createdAt; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,82 @@
+package com.example.utmentor.models.docEntities.Mail;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Durable record of an e-mail waiting to be sent. Rendering happens at send time from
+ * {@code template} and {@code params}, so a queued message survives a restart.
+ * Once SENT or FAILED the params (which may hold an OTP) are dropped, and Mongo's TTL monitor
+ * deletes the record after {@code purgeAt}.
+ */
+@Document(collection = "outboundEmails")
+@CompoundIndexes({
+        // the recovery poller scans due messages: status = PENDING and nextAttemptAt <= now
+        @CompoundIndex(name = "status_nextAttemptAt", def = "{'status': 1, 'nextAttemptAt': 1}")
+})
+public class OutboundEmail {
+
+    public enum Status { PENDING, SENDING, SENT, FAILED }
+
+    @Id
+    private String id;
+
+    private String to;
+    private String template;
+    private Map<String, String> params;
+
+    private Status status;
+    private int attempts;
+    private String lastError;
+
+    private Instant createdAt;
+    private Instant nextAttemptAt;
+    private Instant claimedAt;
+    private Instant sentAt;
+
+    @Indexed(name = "purgeAt_ttl", expireAfter = "0s")
+    private Instant purgeAt;
+
+    public OutboundEmail() {}
+
+    public OutboundEmail(String to, String template, Map<String, String> params) {
+        this.id = UUID.randomUUID().toString();
+        this.to = to;
+        this.template = template;
+        this.params = params;
+        this.status = Status.PENDING;
+        this.createdAt = Instant.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public String getId() { return id; }
+
+    public String getTo() { return to; }
+
+    public String getTemplate() { return template; }
+
+    public Map<String, String> getParams() { return params; }
+
+    public Status getStatus() { return status; }
+
+    public int getAttempts() { return attempts; }
+
+    public String getLastError() { return lastError; }
+
+    public Instant getCreatedAt() { return createdAt; }
+
+    public Instant getNextAttemptAt() { return nextAttemptAt; }
+
+    public Instant getClaimedAt() { return claimedAt; }
+
+    public Instant getSentAt() { return sentAt; }
+
+    public Instant getPurgeAt() { return purgeAt; }
+}
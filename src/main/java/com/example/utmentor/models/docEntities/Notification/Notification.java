@@ -1,12 +1,22 @@
 package com.example.utmentor.models.docEntities.Notification;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Document(collection = "notifications")
+@CompoundIndexes({
+        // replay on reconnect is a range scan: toUserId = ? and seq > lastAcked, by seq
+        @CompoundIndex(name = "toUser_seq", def = "{'toUserId': 1, 'seq': 1}"),
+        // replay also resends anything below the ack watermark that was stored after it moved
+        @CompoundIndex(name = "toUser_acked_seq", def = "{'toUserId': 1, 'acked': 1, 'seq': 1}"),
+        // feed paging: toUserId = ?, newest first, _id as tie-breaker
+        @CompoundIndex(name = "toUser_createdAt", def = "{'toUserId': 1, 'createdAt': -1, '_id': 1}")
+})
 public class Notification {
 
     @Id
@@ -15,9 +25,15 @@ public class Notification {
     private String sendUserId;
     private String toUserId;
     private String content;
+    private String title;
 
     private NotificationType type;
     boolean isRead;
+    // per-recipient sequence number, assigned from notificationCounters before the notification is stored
+    private Long seq;
+    // false until the recipient acks a seq at or above this one; absent on notifications
+    // stored before per-notification acks, which the ackedSeq watermark already covers
+    private Boolean acked;
     private Instant createdAt;
     private Instant updatedAt;
 
@@ -31,6 +47,7 @@ public class Notification {
         this.content = content;
         this.type = type;
         this.isRead = false;
+        this.acked = false;
         this.createdAt = Instant.now();
         this.updatedAt = Instant.now();
     }
@@ -61,6 +78,11 @@ public class Notification {
     }
 
 
+    public String getTitle() { return title; }
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
     public NotificationType getType() { return type; }
     public void setType(NotificationType type) {
         this.type = type;
@@ -72,6 +94,15 @@ public class Notification {
         this.updatedAt = Instant.now();
     }
 
+    public Long getSeq() { return seq; }
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public Boolean getAcked() { return acked; }
+
+    public Instant getCreatedAt() { return createdAt; }
+
     public Instant getUpdatedAt() { return updatedAt; }
 
 
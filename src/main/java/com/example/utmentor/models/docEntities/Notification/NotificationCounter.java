@@ -0,0 +1,32 @@
+package com.example.utmentor.models.docEntities.Notification;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Per-user notification state: {@code seq} is the last number handed out,
+ * {@code ackedSeq} the highest one the user's client has acknowledged,
+ * {@code unread} the number of notifications not yet marked as read.
+ */
+@Document(collection = "notificationCounters")
+public class NotificationCounter {
+
+    @Id
+    private String id; // userId
+
+    private long seq;
+
+    private long ackedSeq;
+
+    private long unread;
+
+    public NotificationCounter() {}
+
+    public String getId() { return id; }
+
+    public long getSeq() { return seq; }
+
+    public long getAckedSeq() { return ackedSeq; }
+
+    public long getUnread() { return unread; }
+}
@@ -0,0 +1,35 @@
+package com.example.utmentor.models.docEntities.Otp;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Pending one-time password for an email. Mongo's TTL monitor deletes the document once
+ * {@code expiresAt} passes; reads also filter on it because the monitor runs only once a minute.
+ */
+@Document(collection = "otpCodes")
+public class OtpCode {
+
+    @Id
+    private String id; // email
+
+    private String otp;
+
+    @Indexed(name = "expiresAt_ttl", expireAfter = "0s")
+    private Instant expiresAt;
+
+    private int attempts;
+
+    public OtpCode() {}
+
+    public String getId() { return id; }
+
+    public String getOtp() { return otp; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+
+    public int getAttempts() { return attempts; }
+}
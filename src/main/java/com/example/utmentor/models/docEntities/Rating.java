@@ -3,6 +3,8 @@ package com.example.utmentor.models.docEntities;
 import java.time.Instant;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import jakarta.validation.constraints.NotBlank;
@@ -11,6 +13,10 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Max;
 
 @Document(collection = "ratings")
+@CompoundIndexes({
+        // one review per student and tutor; the rating counters depend on it
+        @CompoundIndex(name = "reviewer_reviewee", def = "{'reviewerID': 1, 'revieweeID': 1}", unique = true)
+})
 public class Rating {
     @Id
     @NotBlank
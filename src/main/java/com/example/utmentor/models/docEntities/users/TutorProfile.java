@@ -1,9 +1,12 @@
 package com.example.utmentor.models.docEntities.users;
 
     import java.time.Instant;
+    import java.util.ArrayList;
     import java.util.List;
 
     import org.springframework.data.annotation.Id;
+    import org.springframework.data.mongodb.core.index.CompoundIndex;
+    import org.springframework.data.mongodb.core.index.CompoundIndexes;
     import org.springframework.data.mongodb.core.mapping.Document;
 
     import com.example.utmentor.models.docEntities.Expertise;
@@ -12,6 +15,14 @@ package com.example.utmentor.models.docEntities.users;
     import jakarta.validation.constraints.NotBlank;
 
     @Document(collection = "tutorProfiles")
+    @CompoundIndexes({
+            @CompoundIndex(name = "accepting_expertise_rating",
+                    def = "{'acceptingMentees': 1, 'expertise': 1, 'ratingAvg': -1, 'ratingCount': -1, '_id': -1}"),
+            @CompoundIndex(name = "accepting_rating",
+                    def = "{'acceptingMentees': 1, 'ratingAvg': -1, 'ratingCount': -1, '_id': -1}"),
+            @CompoundIndex(name = "accepting_tutor_time",
+                    def = "{'acceptingMentees': 1, 'ratingCount': -1, 'ratingAvg': -1, '_id': -1}")
+    })
     public class TutorProfile {
         @Id
         @NotBlank
@@ -33,10 +44,20 @@ package com.example.utmentor.models.docEntities.users;
 
         private Integer currentMenteeCount = 0;
 
+        // currentMenteeCount < maximumCapacity, stored so search can use an index instead of $expr.
+        // Kept in sync by the setters; raw Mongo updates must use TutorProfileRepository.withAcceptingMentees.
+        private boolean acceptingMentees;
+
         private Integer ratingCount = 0;
 
         private Double ratingAvg = 0.0;
 
+        // Review counters maintained by RatingRepository; ratingAvg = ratingSum / ratingCount.
+        // ratingHistogram[i] is the number of (i + 1)-star reviews.
+        private Integer ratingSum = 0;
+
+        private List<Integer> ratingHistogram = new ArrayList<>(List.of(0, 0, 0, 0, 0));
+
         private Instant createdAt = Instant.now();
 
         private Instant updatedAt = Instant.now();
@@ -50,6 +71,7 @@ package com.example.utmentor.models.docEntities.users;
             this.isActive = isActive;
             this.maximumCapacity = maximumCapacity;
             this.currentMenteeCount = currentMenteeCount;
+            refreshAcceptingMentees();
         }
 
         public String getId() {
@@ -121,6 +143,7 @@ package com.example.utmentor.models.docEntities.users;
 
         public void setMaximumCapacity(Integer maximumCapacity) {
             this.maximumCapacity = maximumCapacity;
+            refreshAcceptingMentees();
             this.updatedAt = Instant.now();
         }
 
@@ -130,9 +153,19 @@ package com.example.utmentor.models.docEntities.users;
 
         public void setCurrentMenteeCount(Integer currentMenteeCount) {
             this.currentMenteeCount = currentMenteeCount;
+            refreshAcceptingMentees();
             this.updatedAt = Instant.now();
         }
 
+        public boolean isAcceptingMentees() {
+            return acceptingMentees;
+        }
+
+        private void refreshAcceptingMentees() {
+            this.acceptingMentees = maximumCapacity != null
+                    && (currentMenteeCount != null ? currentMenteeCount : 0) < maximumCapacity;
+        }
+
         public Integer getRatingCount() {
             return ratingCount;
         }
@@ -151,6 +184,14 @@ package com.example.utmentor.models.docEntities.users;
             this.updatedAt = Instant.now();
         }
 
+        public Integer getRatingSum() {
+            return ratingSum;
+        }
+
+        public List<Integer> getRatingHistogram() {
+            return ratingHistogram;
+        }
+
         public Instant getCreatedAt() {
             return createdAt;
         }
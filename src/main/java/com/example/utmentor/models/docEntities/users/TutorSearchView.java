@@ -0,0 +1,128 @@
+package com.example.utmentor.models.docEntities.users;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.example.utmentor.models.docEntities.Department;
+import com.example.utmentor.models.docEntities.Expertise;
+
+/**
+ * Read model for tutor search: a tutor profile with the user display fields embedded,
+ * so search is a single indexed find instead of a $lookup into users.
+ * Maintained by TutorSearchViewRepository; never written directly.
+ */
+@Document(collection = TutorSearchView.COLLECTION)
+@CompoundIndexes({
+        @CompoundIndex(name = "expertise_rating", def = "{'acceptingMentees': 1, 'expertise': 1, 'ratingAvg': -1, 'ratingCount': -1, '_id': -1}"),
+        @CompoundIndex(name = "department_rating", def = "{'acceptingMentees': 1, 'department': 1, 'ratingAvg': -1, 'ratingCount': -1, '_id': -1}"),
+        @CompoundIndex(name = "rating", def = "{'acceptingMentees': 1, 'ratingAvg': -1, 'ratingCount': -1, '_id': -1}"),
+        @CompoundIndex(name = "tutor_time", def = "{'acceptingMentees': 1, 'ratingCount': -1, 'ratingAvg': -1, '_id': -1}"),
+        @CompoundIndex(name = "department_firstName", def = "{'acceptingMentees': 1, 'department': 1, 'firstName': 1, '_id': 1}"),
+        @CompoundIndex(name = "firstName", def = "{'acceptingMentees': 1, 'firstName': 1, '_id': 1}")
+})
+public class TutorSearchView {
+    public static final String COLLECTION = "tutorSearchView";
+
+    @Id
+    private String id;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String avatarUrl;
+
+    private Department department;
+
+    private List<Expertise> expertise;
+
+    private String tutorDescription;
+
+    private Integer currentMenteeCount;
+
+    private Integer maximumCapacity;
+
+    private boolean acceptingMentees;
+
+    private Integer ratingCount;
+
+    private Double ratingAvg;
+
+    private Instant updatedAt = Instant.now();
+
+    public TutorSearchView() {}
+
+    public TutorSearchView(TutorProfile profile, User user) {
+        this.id = profile.getId();
+        this.expertise = profile.getExpertise();
+        this.tutorDescription = profile.getTutorDescription();
+        this.currentMenteeCount = profile.getCurrentMenteeCount();
+        this.maximumCapacity = profile.getMaximumCapacity();
+        this.acceptingMentees = profile.isAcceptingMentees();
+        this.ratingCount = profile.getRatingCount();
+        this.ratingAvg = profile.getRatingAvg();
+        if (user != null) {
+            this.firstName = user.getFirstName();
+            this.lastName = user.getLastName();
+            this.avatarUrl = user.getAvatarUrl();
+            this.department = user.getDepartment();
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getAvatarUrl() {
+        return avatarUrl;
+    }
+
+    public Department getDepartment() {
+        return department;
+    }
+
+    public List<Expertise> getExpertise() {
+        return expertise;
+    }
+
+    public String getTutorDescription() {
+        return tutorDescription;
+    }
+
+    public Integer getCurrentMenteeCount() {
+        return currentMenteeCount;
+    }
+
+    public Integer getMaximumCapacity() {
+        return maximumCapacity;
+    }
+
+    public boolean isAcceptingMentees() {
+        return acceptingMentees;
+    }
+
+    public Integer getRatingCount() {
+        return ratingCount;
+    }
+
+    public Double getRatingAvg() {
+        return ratingAvg;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.utmentor.models.docEntities.users;
+
+import java.util.List;
+
+import com.example.utmentor.models.docEntities.Department;
+import com.example.utmentor.models.docEntities.Role;
+
+/**
+ * Immutable, credential-free snapshot of the user fields read on hot paths.
+ */
+public record UserSummary(
+        String id,
+        String firstName,
+        String lastName,
+        String username,
+        String avatarUrl,
+        String phoneNumber,
+        Department department,
+        List<Role> roles
+) {
+    public UserSummary {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+
+    public static UserSummary from(User user) {
+        return new UserSummary(
+                user.getId(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getUsername(),
+                user.getAvatarUrl(),
+                user.getPhoneNumber(),
+                user.getDepartment(),
+                user.getRoles()
+        );
+    }
+
+    public String email() {
+        return username + "@hcmut.edu.vn";
+    }
+
+    public boolean hasTutorProfile() {
+        return roles.contains(Role.TUTOR);
+    }
+
+    public boolean hasStudentProfile() {
+        return roles.contains(Role.STUDENT);
+    }
+}
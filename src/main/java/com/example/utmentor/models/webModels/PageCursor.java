@@ -0,0 +1,91 @@
+package com.example.utmentor.models.webModels;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.utmentor.util.Errors;
+import com.example.utmentor.util.ValidatorException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Opaque keyset cursor: the sort key it was issued for, the sort values of the
+ * last row that was returned and that row's {@code _id}.
+ */
+public record PageCursor(String sortKey, List<Object> values, String lastId) {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public String encode() {
+        List<String> encodedValues = new ArrayList<>(values.size());
+        for (Object value : values) {
+            encodedValues.add(encodeValue(value));
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("k", sortKey);
+        payload.put("v", encodedValues);
+        payload.put("id", lastId);
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(objectMapper.writeValueAsBytes(payload));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode page cursor", e);
+        }
+    }
+
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            Map<?, ?> payload = objectMapper.readValue(Base64.getUrlDecoder().decode(token), Map.class);
+            if (!(payload.get("k") instanceof String key)
+                    || !(payload.get("id") instanceof String id)
+                    || !(payload.get("v") instanceof List<?> rawValues)) {
+                throw invalid();
+            }
+            List<Object> values = new ArrayList<>(rawValues.size());
+            for (Object raw : rawValues) {
+                values.add(decodeValue(String.valueOf(raw)));
+            }
+            return new PageCursor(key, values, id);
+        } catch (ValidatorException e) {
+            throw e;
+        } catch (Exception e) {
+            throw invalid();
+        }
+    }
+
+    public static ValidatorException invalid() {
+        ValidatorException vex = new ValidatorException("Invalid cursor.");
+        vex.add(Errors.INVALID_CURSOR);
+        return vex;
+    }
+
+    private static String encodeValue(Object value) {
+        if (value == null) return "n:";
+        if (value instanceof String s) return "s:" + s;
+        if (value instanceof Integer i) return "i:" + i;
+        if (value instanceof Long l) return "l:" + l;
+        if (value instanceof Number n) return "d:" + n.doubleValue();
+        if (value instanceof Date d) return "t:" + d.getTime();
+        if (value instanceof java.time.Instant instant) return "t:" + instant.toEpochMilli();
+        return "s:" + value;
+    }
+
+    private static Object decodeValue(String encoded) {
+        String body = encoded.substring(2);
+        return switch (encoded.substring(0, 2)) {
+            case "n:" -> null;
+            case "s:" -> body;
+            case "i:" -> Integer.valueOf(body);
+            case "l:" -> Long.valueOf(body);
+            case "d:" -> Double.valueOf(body);
+            case "t:" -> new Date(Long.parseLong(body));
+            default -> throw invalid();
+        };
+    }
+}
@@ -8,16 +8,43 @@ public record PageResponse<T>(
     int pageSize,
     long total,
     int totalPages,
-    boolean hasNext
+    boolean hasNext,
+    boolean totalExact,
+    String nextCursor
 ) {
     public PageResponse(List<T> data, int page, int pageSize, long total) {
+        this(data, page, pageSize, total, true);
+    }
+
+    /**
+     * @param totalExact false when {@code total} was served from the short-lived count cache
+     */
+    public PageResponse(List<T> data, int page, int pageSize, long total, boolean totalExact) {
+        this(
+            data,
+            page,
+            pageSize,
+            total,
+            pageSize <= 0 ? 0 : (int) Math.ceil((double) total / pageSize),
+            page < (pageSize <= 0 ? 0 : (int) Math.ceil((double) total / pageSize)),
+            totalExact,
+            null
+        );
+    }
+
+    /**
+     * Keyset-paged response; {@code hasNext} is true exactly when a {@code nextCursor} exists.
+     */
+    public PageResponse(List<T> data, int page, int pageSize, long total, boolean totalExact, String nextCursor) {
         this(
             data,
             page,
             pageSize,
             total,
             pageSize <= 0 ? 0 : (int) Math.ceil((double) total / pageSize),
-            page < (pageSize <= 0 ? 0 : (int) Math.ceil((double) total / pageSize))
+            nextCursor != null,
+            totalExact,
+            nextCursor
         );
     }
 }
@@ -0,0 +1,11 @@
+package com.example.utmentor.models.webModels.connections;
+
+import com.example.utmentor.models.docEntities.Connection.StatusRequest;
+
+public record ConnectionDecisionResponse(
+        String connectionId,
+        String tutorId,
+        String studentId,
+        StatusRequest status,
+        String message
+) {}
@@ -0,0 +1,21 @@
+package com.example.utmentor.models.webModels.datacore;
+
+import java.util.List;
+
+/**
+ * Outcome of a datacore import. Counters cover the whole import including earlier interrupted
+ * uploads; {@code errors} lists this upload's failed rows, capped at the configured limit.
+ */
+public record DatacoreImportResponse(
+        String importId,
+        long resumedFromRow,
+        long rowsRead,
+        long inserted,
+        long duplicates,
+        long invalid,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+    public record RowError(long row, String email, String code, String message) {
+    }
+}
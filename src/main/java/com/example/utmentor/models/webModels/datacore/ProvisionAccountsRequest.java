@@ -0,0 +1,12 @@
+package com.example.utmentor.models.webModels.datacore;
+
+/**
+ * Datacore filter for a bulk provisioning run. When {@code initialPassword} is omitted every
+ * account gets a random password and must be activated through an admin password reset.
+ */
+public record ProvisionAccountsRequest(
+        String department,
+        String role,
+        String initialPassword
+) {
+}
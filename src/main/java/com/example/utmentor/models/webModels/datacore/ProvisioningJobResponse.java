@@ -0,0 +1,22 @@
+package com.example.utmentor.models.webModels.datacore;
+
+import java.time.Instant;
+
+/**
+ * Snapshot of a provisioning job. {@code alreadyProvisioned} counts records a previous run created;
+ * {@code conflicts} counts records whose username belongs to an account created some other way.
+ */
+public record ProvisioningJobResponse(
+        String jobId,
+        String status,
+        long scanned,
+        long created,
+        long alreadyProvisioned,
+        long conflicts,
+        long invalid,
+        long failed,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+}
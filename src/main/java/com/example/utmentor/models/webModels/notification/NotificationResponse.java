@@ -1,5 +1,6 @@
 package com.example.utmentor.models.webModels.notification;
 
+import com.example.utmentor.models.docEntities.Notification.Notification;
 import com.example.utmentor.models.docEntities.Notification.NotificationType;
 
 public record NotificationResponse
@@ -9,6 +10,19 @@ public record NotificationResponse
         NotificationType type,
         String content,
         boolean isRead,
-        String timestamp
+        String timestamp,
+        Long seq
         )
-{ }
+{
+    public static NotificationResponse from(Notification notification, String defaultTitle) {
+        return new NotificationResponse(
+                notification.getId(),
+                notification.getTitle() != null ? notification.getTitle() : defaultTitle,
+                notification.getType(),
+                notification.getContent(),
+                notification.isRead(),
+                notification.getUpdatedAt().toString(),
+                notification.getSeq()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.utmentor.models.webModels.profile;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record CreateReviewRequest(
+        @NotBlank String tutorId,
+        @NotNull @Min(1) @Max(5) Integer rating,
+        String comment
+) {}
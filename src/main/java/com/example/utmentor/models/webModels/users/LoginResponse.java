@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.example.utmentor.models.docEntities.Role;
 import com.example.utmentor.models.docEntities.users.User;
+import com.example.utmentor.models.docEntities.users.UserSummary;
 
 public record LoginResponse(
     String firstName,
@@ -19,12 +20,36 @@ public record LoginResponse(
     }
     
     public static class LoginResponseBuilder {
-        private User user;
+        private boolean hasUser;
+        private String firstName;
+        private String lastName;
+        private String username;
+        private String avatarUrl;
+        private List<Role> roles;
         private String accessToken;
         private String tokenType = "Bearer";
         
         public LoginResponseBuilder user(User user) {
-            this.user = user;
+            this.hasUser = user != null;
+            if (user != null) {
+                this.firstName = user.getFirstName();
+                this.lastName = user.getLastName();
+                this.username = user.getUsername();
+                this.avatarUrl = user.getAvatarUrl();
+                this.roles = user.getRoles();
+            }
+            return this;
+        }
+
+        public LoginResponseBuilder user(UserSummary user) {
+            this.hasUser = user != null;
+            if (user != null) {
+                this.firstName = user.firstName();
+                this.lastName = user.lastName();
+                this.username = user.username();
+                this.avatarUrl = user.avatarUrl();
+                this.roles = user.roles();
+            }
             return this;
         }
         
@@ -39,7 +64,7 @@ public record LoginResponse(
         }
         
         public LoginResponse build() {
-            if (user == null) {
+            if (!hasUser) {
                 throw new IllegalStateException("User is required");
             }
             if (accessToken == null) {
@@ -47,11 +72,11 @@ public record LoginResponse(
             }
             
             return new LoginResponse(
-                user.getFirstName(),
-                user.getLastName(),
-                user.getUsername(),
-                user.getAvatarUrl(),
-                user.getRoles(),
+                firstName,
+                lastName,
+                username,
+                avatarUrl,
+                roles,
                 accessToken,
                 tokenType
             );
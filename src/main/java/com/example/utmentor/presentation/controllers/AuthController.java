@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.utmentor.infrastructures.securities.JwtService;
 import com.example.utmentor.models.docEntities.users.User;
+import com.example.utmentor.models.docEntities.users.UserSummary;
 import com.example.utmentor.models.webModels.users.CreateUserRequest;
 import com.example.utmentor.models.webModels.users.CreateUserResponse;
 import com.example.utmentor.models.webModels.users.LoginRequest;
@@ -141,16 +142,16 @@ public class AuthController {
         // Extract user info from refresh token
         String userId = _jwtService.extractSubject(refreshToken);
         // Refresh token contains userId as subject
-        var userOpt = _userService.findById(userId);
+        var userOpt = _userService.findSummaryById(userId);
         if (userOpt.isEmpty()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
-        User user = userOpt.get();
+        UserSummary user = userOpt.get();
         
         // Generate new access token
-        Map<String, Object> claims = _authService.createAcessTokenClaim(user);
-        String newAccessToken = _jwtService.generateToken(user.getId(), claims, false);
+        Map<String, Object> claims = _authService.createAcessTokenClaim(user.roles());
+        String newAccessToken = _jwtService.generateToken(user.id(), claims, false);
         
         // Update access token cookie
         ResponseCookie accessCookie = ResponseCookie.from("accessToken", newAccessToken)
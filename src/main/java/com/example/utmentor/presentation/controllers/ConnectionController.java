@@ -2,6 +2,7 @@ package com.example.utmentor.presentation.controllers;
 
 import com.example.utmentor.models.docEntities.Notification.Notification;
 import com.example.utmentor.models.docEntities.Notification.NotificationType;
+import com.example.utmentor.models.webModels.connections.ConnectionDecisionResponse;
 import com.example.utmentor.models.webModels.connections.CreateConnectionRequest;
 
 import com.example.utmentor.models.webModels.connections.CreateConnectionResponse;
@@ -10,10 +11,9 @@ import com.example.utmentor.services.NotificationService;
 import jakarta.validation.Valid;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.IOException;
-
 @RestController
 @RequestMapping("/api")
 public class ConnectionController {
@@ -25,7 +25,7 @@ public class ConnectionController {
     }
     @PostMapping("/connections/create")
     public ResponseEntity<CreateConnectionResponse> createConnection (
-            @Valid @RequestBody CreateConnectionRequest request) throws IOException {
+            @Valid @RequestBody CreateConnectionRequest request) {
 
         CreateConnectionResponse response = connectionService.ConnectionService(request);
         Notification notification = new Notification(request.studentId(), request.tutorId(),
@@ -34,6 +34,24 @@ public class ConnectionController {
 
         return ResponseEntity.ok(response);
     }
+    @PostMapping("/connections/{id}/accept")
+    public ResponseEntity<ConnectionDecisionResponse> acceptConnection(@PathVariable String id) {
+        String tutorId = SecurityContextHolder.getContext().getAuthentication().getName();
+        ConnectionDecisionResponse response = connectionService.acceptConnection(tutorId, id);
+        notificationService.sendNotificationForConnectionResponse(new Notification(tutorId, response.studentId(),
+                "Gia sư đã chấp nhận yêu cầu kết nối của bạn.", NotificationType.CONNECTION_REQUEST_RESPONSE));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/connections/{id}/reject")
+    public ResponseEntity<ConnectionDecisionResponse> rejectConnection(@PathVariable String id) {
+        String tutorId = SecurityContextHolder.getContext().getAuthentication().getName();
+        ConnectionDecisionResponse response = connectionService.rejectConnection(tutorId, id);
+        notificationService.sendNotificationForConnectionResponse(new Notification(tutorId, response.studentId(),
+                "Gia sư đã từ chối yêu cầu kết nối của bạn.", NotificationType.CONNECTION_REQUEST_RESPONSE));
+        return ResponseEntity.ok(response);
+    }
+
 //    @GetMapping("/connections/")
 
 }
@@ -1,8 +1,10 @@
 package com.example.utmentor.presentation.controllers;
 
-import java.util.List;
+import java.io.IOException;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,23 +13,44 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.utmentor.infrastructures.repository.Interface.DatacoreQueryRepository;
+import com.example.utmentor.models.webModels.PageResponse;
 import com.example.utmentor.models.webModels.datacore.CreateDatacoreRequest;
+import com.example.utmentor.models.webModels.datacore.DatacoreImportResponse;
 import com.example.utmentor.models.webModels.datacore.DatacoreResponse;
+import com.example.utmentor.models.webModels.datacore.ProvisionAccountsRequest;
+import com.example.utmentor.models.webModels.datacore.ProvisioningJobResponse;
 import com.example.utmentor.models.webModels.datacore.UpdateDatacoreRequest;
+import com.example.utmentor.services.AccountProvisioningService;
+import com.example.utmentor.services.DatacoreImportService;
 import com.example.utmentor.services.DatacoreService;
+import com.example.utmentor.util.Errors;
+import com.example.utmentor.util.ValidatorException;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("api/datacore")
 public class DatacoreController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final DatacoreService _service;
+    private final DatacoreImportService _importService;
+    private final AccountProvisioningService _provisioningService;
 
-    public DatacoreController(DatacoreService service) {
+    public DatacoreController(DatacoreService service,
+                              DatacoreImportService importService,
+                              AccountProvisioningService provisioningService) {
         this._service = service;
+        this._importService = importService;
+        this._provisioningService = provisioningService;
     }
 
     @PostMapping
@@ -37,11 +60,81 @@ public class DatacoreController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Bulk import from a CSV (header: firstName,lastName,department,role,email; roles separated by ';')
+     * or NDJSON body. Pass the returned importId again to resume an interrupted upload.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @PreAuthorize("hasRole('ADMIN') or hasRole('AFFAIR')")
+    public ResponseEntity<DatacoreImportResponse> importDatacore(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(required = false) String importId,
+            HttpServletRequest request) throws IOException {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        DatacoreImportService.Format format;
+        if (mediaType.isCompatibleWith(NDJSON)) {
+            format = DatacoreImportService.Format.NDJSON;
+        } else if (mediaType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+            format = DatacoreImportService.Format.CSV;
+        } else {
+            ValidatorException ex = new ValidatorException("Unsupported import format.");
+            ex.add(Errors.DATACORE_IMPORT_FORMAT);
+            ex.setHttpCode(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+            throw ex;
+        }
+        DatacoreImportResponse response = _importService.importStream(request.getInputStream(), format, importId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('AFFAIR')")
-    public ResponseEntity<List<DatacoreResponse>> getAllDatacore() {
-        List<DatacoreResponse> responses = _service.getAllDatacore();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<DatacoreResponse>> getDatacorePage(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String role,
+            @RequestParam(defaultValue = "false") boolean includeDeleted,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor) {
+        PageResponse<DatacoreResponse> response = _service.getDatacorePage(department, role, includeDeleted, limit, cursor);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Streams every matching record as NDJSON or CSV without buffering the result set.
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('AFFAIR')")
+    public ResponseEntity<StreamingResponseBody> exportDatacore(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String role,
+            @RequestParam(defaultValue = "false") boolean includeDeleted) {
+        DatacoreService.ExportFormat exportFormat = _service.parseExportFormat(format);
+        DatacoreQueryRepository.Filter filter = _service.parseFilter(department, role, includeDeleted);
+        boolean ndjson = exportFormat == DatacoreService.ExportFormat.NDJSON;
+
+        StreamingResponseBody body = out -> _service.exportDatacore(filter, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? NDJSON : MediaType.parseMediaType("text/csv;charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"datacore." + (ndjson ? "ndjson" : "csv") + "\"")
+                .body(body);
+    }
+
+    /**
+     * Starts a background job that creates accounts for the matching datacore records.
+     * Poll {@code GET /api/datacore/provision/{jobId}} for progress; re-running is safe.
+     */
+    @PostMapping("/provision")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProvisioningJobResponse> provisionAccounts(@RequestBody ProvisionAccountsRequest request) {
+        ProvisioningJobResponse response = _provisioningService.start(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/provision/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProvisioningJobResponse> getProvisioningJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(_provisioningService.getJob(jobId));
     }
 
     @GetMapping("/{id}")
@@ -11,6 +11,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -28,14 +29,25 @@ public class NotificationController {
     private NotificationService notificationService;
 
     @GetMapping("/api/notifications/get")
-    public ResponseEntity<?> getNotifications() {
+    public ResponseEntity<?> getNotifications(
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String currentUserId = authentication.getName();
-        var notifications = notificationService.getNotificationsForCurrentUser(currentUserId);
+        var page = notificationService.getNotificationsForCurrentUser(currentUserId, limit, cursor);
         Map<String, Object> response = new HashMap<>();
-        response.put("notifications", notifications);
+        response.put("notifications", page.data());
+        response.put("nextCursor", page.nextCursor());
+        response.put("hasNext", page.hasNext());
+        response.put("unreadCount", notificationService.getUnreadCount(currentUserId));
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/api/notifications/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return ResponseEntity.ok(Map.of("unreadCount", notificationService.getUnreadCount(authentication.getName())));
+    }
+
 
 }
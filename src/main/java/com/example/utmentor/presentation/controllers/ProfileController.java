@@ -12,6 +12,7 @@ import com.example.utmentor.models.webModels.profile.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -54,12 +55,22 @@ public class ProfileController {
             @RequestParam String id,
             @RequestParam int page,
             @RequestParam(required = false, defaultValue = "5") int pageSize,
-            @RequestParam(required = false, defaultValue = "latest") String sort) {
-        var reviews = profileService.getTutorReviews(id, page, pageSize, sort);
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor) {
+        var reviews = profileService.getTutorReviews(id, page, pageSize, sort, cursor);
         TutorReviewsResponse response = new TutorReviewsResponse(reviews);
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/info/tutor-reviews")
+    public ResponseEntity<ReviewResponse> createTutorReview(
+            @Valid @RequestBody CreateReviewRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        var currentId = authentication.getName();
+        ReviewResponse response = profileService.createTutorReview(currentId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping("/info/tutor-rating-distribution")
     public ResponseEntity<Map<String, Map<Integer, Integer>>> getTutorRatingDistribution(
             @RequestParam String id) {
@@ -103,7 +114,8 @@ public class ProfileController {
             @RequestParam(required = false) String expertise,
             @RequestParam(required = false, defaultValue = "rating-descending") String sort,
             @RequestParam(required = false, defaultValue = "1") int page,
-            @RequestParam(required = false, defaultValue = "20") int pageSize
+            @RequestParam(required = false, defaultValue = "20") int pageSize,
+            @RequestParam(required = false) String cursor
     ) {
         try {
             // Parse expertise parameter
@@ -126,7 +138,8 @@ public class ProfileController {
                 expertiseList,
                 sort,
                 page,
-                pageSize
+                pageSize,
+                cursor
             );
             
             // Check if no results found
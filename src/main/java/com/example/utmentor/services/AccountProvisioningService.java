@@ -0,0 +1,428 @@
+package com.example.utmentor.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.example.utmentor.infrastructures.cache.PageTotalCache;
+import com.example.utmentor.infrastructures.repository.Interface.DatacoreQueryRepository;
+import com.example.utmentor.infrastructures.repository.Interface.TutorSearchViewRepository;
+import com.example.utmentor.infrastructures.search.TutorProfilesProvisionedEvent;
+import com.example.utmentor.models.docEntities.HCMUT_DATACORE.Datacore;
+import com.example.utmentor.models.docEntities.Role;
+import com.example.utmentor.models.docEntities.users.StudentProfile;
+import com.example.utmentor.models.docEntities.users.TutorProfile;
+import com.example.utmentor.models.docEntities.users.User;
+import com.example.utmentor.models.webModels.datacore.ProvisionAccountsRequest;
+import com.example.utmentor.models.webModels.datacore.ProvisioningJobResponse;
+import com.example.utmentor.util.Errors;
+import com.example.utmentor.util.ValidatorException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.mongodb.bulk.BulkWriteError;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Creates user accounts (plus student/tutor profiles) for every datacore record matching a filter.
+ * Records are streamed in batches; each batch is hashed in parallel on a bounded pool and written
+ * with unordered bulk inserts. User ids are derived from the datacore id, so a re-run skips what
+ * an earlier run already created instead of duplicating it.
+ */
+@Service
+public class AccountProvisioningService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountProvisioningService.class);
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private final DatacoreService datacoreService;
+
+    private final DatacoreQueryRepository datacoreQueryRepository;
+
+    private final TutorSearchViewRepository tutorSearchViewRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final PageTotalCache pageTotalCache;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final int batchSize;
+
+    private final ThreadPoolExecutor hashPool;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "account-provisioning");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Cache<String, Job> jobs;
+
+    public AccountProvisioningService(DatacoreService datacoreService,
+                                      DatacoreQueryRepository datacoreQueryRepository,
+                                      TutorSearchViewRepository tutorSearchViewRepository,
+                                      ApplicationEventPublisher eventPublisher,
+                                      PageTotalCache pageTotalCache,
+                                      MongoTemplate mongoTemplate,
+                                      PasswordEncoder passwordEncoder,
+                                      @Value("${provisioning.batch-size:500}") int batchSize,
+                                      @Value("${provisioning.hash-threads:0}") int hashThreads,
+                                      @Value("${provisioning.job-retention-minutes:1440}") long retentionMinutes) {
+        this.datacoreService = datacoreService;
+        this.datacoreQueryRepository = datacoreQueryRepository;
+        this.tutorSearchViewRepository = tutorSearchViewRepository;
+        this.eventPublisher = eventPublisher;
+        this.pageTotalCache = pageTotalCache;
+        this.mongoTemplate = mongoTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.batchSize = batchSize;
+
+        // Leave one core for request threads and the login hashing pool
+        int poolSize = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.hashPool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "provisioning-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.jobs = CacheBuilder.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(retentionMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Validates the filter and starts the job in the background. Only one job runs at a time.
+     */
+    public ProvisioningJobResponse start(ProvisionAccountsRequest request) {
+        DatacoreQueryRepository.Filter filter = datacoreService.parseFilter(request.department(), request.role(), false);
+        if (request.initialPassword() != null && request.initialPassword().length() < 8) {
+            ValidatorException ex = new ValidatorException("Provisioning request failed.");
+            ex.add(Errors.WEAK_PASSWORD);
+            ex.setHttpCode(HttpStatus.BAD_REQUEST);
+            throw ex;
+        }
+        if (!running.compareAndSet(false, true)) {
+            ValidatorException ex = new ValidatorException("Provisioning request failed.");
+            ex.add(Errors.PROVISIONING_RUNNING);
+            ex.setHttpCode(HttpStatus.CONFLICT);
+            throw ex;
+        }
+
+        Job job = new Job(UUID.randomUUID().toString());
+        jobs.put(job.id, job);
+        try {
+            runner.execute(() -> run(job, filter, request.initialPassword()));
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return job.toResponse();
+    }
+
+    public ProvisioningJobResponse getJob(String jobId) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            ValidatorException ex = new ValidatorException("Provisioning job not found.");
+            ex.add(Errors.PROVISIONING_JOB_NOT_FOUND);
+            ex.setHttpCode(HttpStatus.NOT_FOUND);
+            throw ex;
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * Same id for the same datacore record on every run; this is what makes re-runs idempotent.
+     */
+    static String userIdFor(Datacore datacore) {
+        return UUID.nameUUIDFromBytes(("datacore-user:" + datacore.getId()).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private void run(Job job, DatacoreQueryRepository.Filter filter, String initialPassword) {
+        long start = System.nanoTime();
+        try (Stream<Datacore> rows = datacoreQueryRepository.stream(filter, batchSize, true)) {
+            Iterator<Datacore> iterator = rows.iterator();
+            List<Datacore> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize) {
+                    provisionBatch(job, batch, initialPassword);
+                    batch.clear();
+                }
+            }
+            provisionBatch(job, batch, initialPassword);
+            job.finish(Status.COMPLETED, null);
+        } catch (RuntimeException e) {
+            logger.error("Provisioning job {} failed", job.id, e);
+            job.finish(Status.FAILED, e.getMessage());
+        } finally {
+            pageTotalCache.invalidatePrefix(PageTotalCache.TUTOR_SEARCH_PREFIX);
+            running.set(false);
+            logger.info("Provisioning job {} {}: {} created, {} already provisioned, {} conflicts in {} ms",
+                    job.id, job.status, job.created.get(), job.alreadyProvisioned.get(), job.conflicts.get(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private void provisionBatch(Job job, List<Datacore> batch, String initialPassword) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        job.scanned.addAndGet(batch.size());
+
+        Map<String, Datacore> byUsername = new HashMap<>();
+        for (Datacore datacore : batch) {
+            String username = AuthService.getLocalPart(datacore.getEmail());
+            if (username == null || byUsername.putIfAbsent(username, datacore) != null) {
+                job.invalid.incrementAndGet();
+            }
+        }
+
+        // One round trip tells apart accounts from an earlier run and usernames taken by someone else
+        Map<String, String> existingIds = new HashMap<>();
+        Query existingQuery = new Query(Criteria.where("username").in(byUsername.keySet()));
+        existingQuery.fields().include("username");
+        for (Document existing : mongoTemplate.find(existingQuery, Document.class, "users")) {
+            existingIds.put(existing.getString("username"), String.valueOf(existing.get("_id")));
+        }
+
+        List<Datacore> toCreate = new ArrayList<>();
+        List<Datacore> provisioned = new ArrayList<>();
+        for (Map.Entry<String, Datacore> entry : byUsername.entrySet()) {
+            String existingId = existingIds.get(entry.getKey());
+            if (existingId == null) {
+                toCreate.add(entry.getValue());
+            } else if (existingId.equals(userIdFor(entry.getValue()))) {
+                job.alreadyProvisioned.incrementAndGet();
+                provisioned.add(entry.getValue());
+            } else {
+                job.conflicts.incrementAndGet();
+            }
+        }
+
+        List<String> hashes = hashAll(toCreate, initialPassword);
+        List<User> users = new ArrayList<>(toCreate.size());
+        for (int i = 0; i < toCreate.size(); i++) {
+            Datacore datacore = toCreate.get(i);
+            users.add(new User(
+                    userIdFor(datacore),
+                    datacore.getFirstName(),
+                    datacore.getLastName(),
+                    datacore.getDepartment(),
+                    datacore.getRole(),
+                    AuthService.getLocalPart(datacore.getEmail()),
+                    null,
+                    hashes.get(i)));
+        }
+
+        Set<Integer> rejected = insertUnordered(users, User.class, job);
+        Map<String, User> created = new HashMap<>();
+        for (int i = 0; i < toCreate.size(); i++) {
+            if (!rejected.contains(i)) {
+                provisioned.add(toCreate.get(i));
+                created.put(users.get(i).getId(), users.get(i));
+            }
+        }
+        job.created.addAndGet(created.size());
+
+        List<StudentProfile> students = new ArrayList<>();
+        List<TutorProfile> tutors = new ArrayList<>();
+        for (Datacore datacore : provisioned) {
+            String userId = userIdFor(datacore);
+            List<Role> roles = datacore.getRole() != null ? datacore.getRole() : List.of();
+            if (datacore.getStudentProfile() != null || roles.contains(Role.STUDENT)) {
+                StudentProfile student = datacore.getStudentProfile() != null
+                        ? datacore.getStudentProfile()
+                        : new StudentProfile(userId, null, true);
+                student.setId(userId);
+                students.add(student);
+            }
+            if (datacore.getTutorProfile() != null || roles.contains(Role.TUTOR)) {
+                tutors.add(newTutorProfile(userId, datacore.getTutorProfile()));
+            }
+        }
+        insertUnordered(students, StudentProfile.class, job);
+        Set<Integer> rejectedTutors = insertUnordered(tutors, TutorProfile.class, job);
+
+        // A re-run can insert the profile for an account an earlier run already created,
+        // so every inserted profile counts, not just those of accounts created in this batch
+        List<TutorProfile> newTutors = new ArrayList<>();
+        for (int i = 0; i < tutors.size(); i++) {
+            if (!rejectedTutors.contains(i)) {
+                newTutors.add(tutors.get(i));
+            }
+        }
+        if (newTutors.isEmpty()) {
+            return;
+        }
+        Map<String, User> tutorUsers = new HashMap<>(created);
+        List<String> existingUserIds = newTutors.stream()
+                .map(TutorProfile::getId)
+                .filter(id -> !created.containsKey(id))
+                .toList();
+        if (!existingUserIds.isEmpty()) {
+            for (User user : mongoTemplate.find(new Query(Criteria.where("_id").in(existingUserIds)), User.class)) {
+                tutorUsers.put(user.getId(), user);
+            }
+        }
+        tutorSearchViewRepository.refreshAll(newTutors, tutorUsers);
+        // the view is written above; the in-memory index and the page totals follow the event
+        eventPublisher.publishEvent(new TutorProfilesProvisionedEvent(
+                newTutors.stream().map(TutorProfile::getId).toList()));
+    }
+
+    /**
+     * A fresh profile for a new account: descriptive fields come from the datacore copy, while
+     * mentee and rating counters start at zero and acceptingMentees is derived from them.
+     */
+    private static TutorProfile newTutorProfile(String userId, TutorProfile source) {
+        if (source == null) {
+            return new TutorProfile(userId, new ArrayList<>(), true, 0, 0);
+        }
+        TutorProfile tutor = new TutorProfile(userId,
+                source.getExpertise() != null ? source.getExpertise() : new ArrayList<>(),
+                source.isActive(), source.getMaximumCapacity(), 0);
+        tutor.setTutorDescription(source.getTutorDescription());
+        tutor.setYearsOfExperience(source.getYearsOfExperience());
+        tutor.setTotalStudentTaught(source.getTotalStudentTaught());
+        tutor.setAchievements(source.getAchievements());
+        return tutor;
+    }
+
+    private List<String> hashAll(List<Datacore> records, String initialPassword) {
+        List<Callable<String>> tasks = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            String raw = initialPassword != null ? initialPassword : randomPassword();
+            tasks.add(() -> passwordEncoder.encode(raw));
+        }
+        List<String> hashes = new ArrayList<>(tasks.size());
+        try {
+            for (Future<String> future : hashPool.invokeAll(tasks)) {
+                hashes.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Provisioning interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+        return hashes;
+    }
+
+    /**
+     * @return indexes of the rejected documents; duplicates are expected on re-runs and are not counted as failures
+     */
+    private Set<Integer> insertUnordered(List<?> documents, Class<?> entity, Job job) {
+        Set<Integer> rejected = new HashSet<>();
+        if (documents.isEmpty()) {
+            return rejected;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entity);
+        bulk.insert(documents);
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                rejected.add(error.getIndex());
+                if (error.getCode() != DUPLICATE_KEY) {
+                    job.failed.incrementAndGet();
+                    logger.warn("Provisioning job {}: {} insert failed: {}", job.id, entity.getSimpleName(), error.getMessage());
+                } else if (entity == User.class) {
+                    // Lost a race for the username with a concurrent registration
+                    job.conflicts.incrementAndGet();
+                }
+            }
+        }
+        return rejected;
+    }
+
+    private static String randomPassword() {
+        byte[] bytes = new byte[18];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+        hashPool.shutdownNow();
+    }
+
+    private static final class Job {
+        final String id;
+        final Instant startedAt = Instant.now();
+        final AtomicLong scanned = new AtomicLong();
+        final AtomicLong created = new AtomicLong();
+        final AtomicLong alreadyProvisioned = new AtomicLong();
+        final AtomicLong conflicts = new AtomicLong();
+        final AtomicLong invalid = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        volatile Status status = Status.RUNNING;
+        volatile Instant finishedAt;
+        volatile String error;
+
+        Job(String id) {
+            this.id = id;
+        }
+
+        void finish(Status status, String error) {
+            this.error = error;
+            this.finishedAt = Instant.now();
+            this.status = status;
+        }
+
+        ProvisioningJobResponse toResponse() {
+            return new ProvisioningJobResponse(id, status.name(), scanned.get(), created.get(),
+                    alreadyProvisioned.get(), conflicts.get(), invalid.get(), failed.get(),
+                    startedAt, finishedAt, error);
+        }
+    }
+}
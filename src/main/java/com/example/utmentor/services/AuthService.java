@@ -6,11 +6,11 @@ import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.example.utmentor.infrastructures.repository.Interface.DatacoreRepository;
 import com.example.utmentor.infrastructures.repository.Interface.UserRepository;
+import com.example.utmentor.infrastructures.securities.PasswordHashingService;
 import com.example.utmentor.models.docEntities.Role;
 import com.example.utmentor.models.docEntities.users.User;
 import com.example.utmentor.models.webModels.users.CreateUserRequest;
@@ -23,16 +23,16 @@ import com.example.utmentor.util.ValidatorException;
 public class AuthService {
     private final UserRepository _repository;
     private final DatacoreRepository _datacore;
-    private final PasswordEncoder _encoder;
+    private final PasswordHashingService _passwordHashing;
 //    private final JwtService _jwtService;
 //    private final OtpService _otpService;
 //    private final EmailService _emailService;
 //    @Value("${fakerefresh}") String secret;
     
-    public AuthService(UserRepository repository, DatacoreRepository datacore, PasswordEncoder encoder) {
+    public AuthService(UserRepository repository, DatacoreRepository datacore, PasswordHashingService passwordHashing) {
         this._repository = repository;
         this._datacore = datacore;
-        this._encoder = encoder;
+        this._passwordHashing = passwordHashing;
 //        this._jwtService = jwtService;
 //        this._otpService = otpService;
 //        this._emailService = emailService;
@@ -63,7 +63,7 @@ public class AuthService {
         if (ex.hasAny()) throw ex;
 
         var obj= _datacore.findByEmail(request.email()).get();
-        String passwordHashed = _encoder.encode(request.password());
+        String passwordHashed = _passwordHashing.hash(request.password());
         var user = new User(
                 UUID.randomUUID().toString(),
                 obj.getFirstName(),
@@ -92,7 +92,7 @@ public class AuthService {
         }
 
         var user = userOpt.get();
-        boolean matches = _encoder.matches(rawPassword, user.getPasswordHash());
+        boolean matches = _passwordHashing.matches(rawPassword, user.getPasswordHash());
         if (!matches) {
             ValidatorException vex = new ValidatorException("Login failed.");
             vex.add(Errors.INVALID_CREDENTIALS);
@@ -100,13 +100,23 @@ public class AuthService {
             throw vex;
         }
 
+        // Work factor changed since this hash was stored: upgrade it while we have the raw password
+        if (_passwordHashing.needsRehash(user.getPasswordHash())) {
+            user.setPasswordHash(_passwordHashing.hash(rawPassword));
+            _repository.save(user);
+        }
+
         return user;
     }
 
     public Map<String, Object> createAcessTokenClaim(User user) {
+        return createAcessTokenClaim(user.getRoles());
+    }
+
+    public Map<String, Object> createAcessTokenClaim(List<Role> roles) {
         Map<String, Object> claims = new HashMap<>();
-        if (user.getRoles() != null && !user.getRoles().isEmpty()) {
-            List<String> roleNames = user.getRoles().stream()
+        if (roles != null && !roles.isEmpty()) {
+            List<String> roleNames = roles.stream()
                     .map(Role::name)
                     .toList();
             claims.put("roles", roleNames);
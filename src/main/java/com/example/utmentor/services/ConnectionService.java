@@ -1,18 +1,26 @@
 package com.example.utmentor.services;
 
 import com.example.utmentor.infrastructures.repository.Interface.ConnectionRepository;
+import com.example.utmentor.infrastructures.repository.Interface.TutorProfileRepository;
 import com.example.utmentor.infrastructures.repository.Interface.UserRepository;
 import com.example.utmentor.models.docEntities.Connection.Connection;
 import com.example.utmentor.models.docEntities.Connection.StatusRequest;
+import com.example.utmentor.models.docEntities.users.User;
+import com.example.utmentor.models.webModels.connections.ConnectionDecisionResponse;
 import com.example.utmentor.models.webModels.connections.CreateConnectionRequest;
 import com.example.utmentor.models.webModels.connections.CreateConnectionResponse;
 import com.example.utmentor.util.Errors;
 import com.example.utmentor.util.ValidatorException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 
 @Service
 public class ConnectionService {
@@ -23,6 +31,9 @@ public class ConnectionService {
     @Autowired
     private UserRepository UserRepository;
 
+    @Autowired
+    private TutorProfileRepository tutorProfileRepository;
+
     @Autowired
     private MongoTemplate mongoTemplate;
 
@@ -34,48 +45,97 @@ public class ConnectionService {
         String studentId = request.studentId();
         String message = request.message();
 
-        if (!UserRepository.existsById(tutorId) ) {
+        Set<String> existing = UserRepository.findIdsByIdIn(List.of(tutorId, studentId)).stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        if (!existing.contains(tutorId)) {
             ValidatorException vex = new ValidatorException("Không tìm thấy gia sư.");
             vex.add(Errors.TUTOR_NOT_FOUND);
             vex.setHttpCode(HttpStatus.NOT_FOUND);
             throw vex;
         }
-        if (!UserRepository.existsById(studentId) ) {
+        if (!existing.contains(studentId)) {
             ValidatorException vex = new ValidatorException("Không tìm thấy học sinh.");
             vex.add(Errors.STUDENT_NOT_FOUND);
             vex.setHttpCode(HttpStatus.NOT_FOUND);
             throw vex;
         }
 
-        Connection connection = connectionRepository.findFirstByTutorIdAndStudentId(tutorId, studentId);
-
-        if (connection != null ) {
-            if (connection.getStatus() != StatusRequest.REJECTED) {
-                ValidatorException vex = new ValidatorException("Kết nối đã tồn tại.");
-                vex.add(Errors.EXIST_CONNECTION);
-                vex.setHttpCode(HttpStatus.CONFLICT);
-                throw vex;
-            }
-            else {
-                boolean isUpdated = connectionRepository.updateConnection(connection, message);
-                if (isUpdated) {
-                    return new CreateConnectionResponse("Kết nối được tái tạo thành công.");
-                } else {
-                    ValidatorException vex = new ValidatorException("Gặp lỗi khi tạo kết nối.");
-                    vex.add(Errors.FAILED_CREATE_CONNECTION);
-                    vex.setHttpCode(HttpStatus.INTERNAL_SERVER_ERROR);
-                    throw vex;
-                }
-            }
+        Connection connection;
+        try {
+            connection = connectionRepository.requestConnection(tutorId, studentId, message);
+        } catch (DuplicateKeyException e) {
+            // a PENDING or ACCEPTED connection already exists for this pair
+            ValidatorException vex = new ValidatorException("Kết nối đã tồn tại.");
+            vex.add(Errors.EXIST_CONNECTION);
+            vex.setHttpCode(HttpStatus.CONFLICT);
+            throw vex;
         }
-        Connection newConnection = connectionRepository.createConnection(tutorId, studentId, message);
-        if (newConnection != null) {
-            return new CreateConnectionResponse("Kết nối được tạo thành công.");
-        } else {
+
+        if (connection == null) {
             ValidatorException vex = new ValidatorException("Gặp lỗi khi tạo kết nối.");
             vex.add(Errors.FAILED_CREATE_CONNECTION);
             vex.setHttpCode(HttpStatus.INTERNAL_SERVER_ERROR);
             throw vex;
         }
+        if (connection.getCreatedAt() != null && !connection.getCreatedAt().equals(connection.getUpdatedAt())) {
+            return new CreateConnectionResponse("Kết nối được tái tạo thành công.");
+        }
+        return new CreateConnectionResponse("Kết nối được tạo thành công.");
+    }
+
+    public ConnectionDecisionResponse acceptConnection(String tutorId, String connectionId) {
+        Connection connection = findPendingForTutor(tutorId, connectionId);
+
+        if (!tutorProfileRepository.reserveMenteeSlot(tutorId)) {
+            ValidatorException vex = new ValidatorException("Gia sư đã đủ số lượng học viên.");
+            vex.add(Errors.TUTOR_AT_CAPACITY);
+            vex.setHttpCode(HttpStatus.CONFLICT);
+            throw vex;
+        }
+        if (!connectionRepository.transitionStatus(connection, StatusRequest.PENDING, StatusRequest.ACCEPTED)) {
+            // another accept/reject won the race; give the slot back
+            tutorProfileRepository.releaseMenteeSlot(tutorId);
+            throw notPending();
+        }
+        return new ConnectionDecisionResponse(connection.getId(), tutorId, connection.getStudentId(),
+                StatusRequest.ACCEPTED, "Đã chấp nhận yêu cầu kết nối.");
+    }
+
+    public ConnectionDecisionResponse rejectConnection(String tutorId, String connectionId) {
+        Connection connection = findPendingForTutor(tutorId, connectionId);
+
+        if (!connectionRepository.transitionStatus(connection, StatusRequest.PENDING, StatusRequest.REJECTED)) {
+            throw notPending();
+        }
+        return new ConnectionDecisionResponse(connection.getId(), tutorId, connection.getStudentId(),
+                StatusRequest.REJECTED, "Đã từ chối yêu cầu kết nối.");
+    }
+
+    private Connection findPendingForTutor(String tutorId, String connectionId) {
+        Connection connection = connectionRepository.findById(connectionId);
+        if (connection == null) {
+            ValidatorException vex = new ValidatorException("Không tìm thấy kết nối.");
+            vex.add(Errors.CONNECTION_NOT_FOUND);
+            vex.setHttpCode(HttpStatus.NOT_FOUND);
+            throw vex;
+        }
+        if (!connection.getTutorId().equals(tutorId)) {
+            ValidatorException vex = new ValidatorException("Không có quyền phản hồi kết nối này.");
+            vex.add(Errors.CONNECTION_FORBIDDEN);
+            vex.setHttpCode(HttpStatus.FORBIDDEN);
+            throw vex;
+        }
+        if (connection.getStatus() != StatusRequest.PENDING) {
+            throw notPending();
+        }
+        return connection;
+    }
+
+    private static ValidatorException notPending() {
+        ValidatorException vex = new ValidatorException("Yêu cầu kết nối không còn chờ xử lý.");
+        vex.add(Errors.CONNECTION_NOT_PENDING);
+        vex.setHttpCode(HttpStatus.CONFLICT);
+        return vex;
     }
 }
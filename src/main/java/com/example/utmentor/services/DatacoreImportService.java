@@ -0,0 +1,359 @@
+package com.example.utmentor.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.example.utmentor.infrastructures.cache.PageTotalCache;
+import com.example.utmentor.models.docEntities.Department;
+import com.example.utmentor.models.docEntities.HCMUT_DATACORE.Datacore;
+import com.example.utmentor.models.docEntities.HCMUT_DATACORE.DatacoreImportCheckpoint;
+import com.example.utmentor.models.docEntities.Role;
+import com.example.utmentor.models.webModels.datacore.CreateDatacoreRequest;
+import com.example.utmentor.models.webModels.datacore.DatacoreImportResponse;
+import com.example.utmentor.models.webModels.datacore.DatacoreImportResponse.RowError;
+import com.example.utmentor.util.CsvRecordReader;
+import com.example.utmentor.util.Errors;
+import com.example.utmentor.util.ValidatorException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mongodb.bulk.BulkWriteError;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Streams a CSV or NDJSON roster into the datacore collection. Rows are parsed one at a time
+ * and written in unordered bulk inserts; the unique email index reports duplicates, so no
+ * per-row existence check is needed. After each batch the checkpoint records how many rows are
+ * done, and an interrupted upload can be sent again with the same import id to continue.
+ */
+@Service
+public class DatacoreImportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private static final Set<String> CSV_COLUMNS = Set.of("firstname", "lastname", "department", "role", "email");
+
+    private final MongoTemplate mongoTemplate;
+
+    private final Validator validator;
+
+    private final PageTotalCache pageTotalCache;
+
+    private final ObjectReader requestReader = new ObjectMapper().readerFor(CreateDatacoreRequest.class);
+
+    private final int batchSize;
+
+    private final int maxReportedErrors;
+
+    public DatacoreImportService(MongoTemplate mongoTemplate,
+                                 Validator validator,
+                                 PageTotalCache pageTotalCache,
+                                 @Value("${datacore.import.batch-size:500}") int batchSize,
+                                 @Value("${datacore.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.mongoTemplate = mongoTemplate;
+        this.validator = validator;
+        this.pageTotalCache = pageTotalCache;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public DatacoreImportResponse importStream(InputStream body, Format format, String importId) throws IOException {
+        requireUniqueEmailIndex();
+        DatacoreImportCheckpoint checkpoint = openCheckpoint(importId, format);
+        Run run = new Run(checkpoint.getId(), checkpoint.getCommittedRows());
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            readCsv(reader, run);
+        } else {
+            readNdjson(reader, run);
+        }
+        run.flush();
+        pageTotalCache.invalidatePrefix(PageTotalCache.DATACORE_PREFIX);
+
+        DatacoreImportCheckpoint done = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(run.importId)),
+                new Update().set("status", DatacoreImportCheckpoint.Status.COMPLETED).set("updatedAt", Instant.now()),
+                FindAndModifyOptions.options().returnNew(true),
+                DatacoreImportCheckpoint.class);
+        return new DatacoreImportResponse(
+                run.importId,
+                run.skip,
+                run.row,
+                done.getInserted(),
+                done.getDuplicates(),
+                done.getInvalid(),
+                run.errors,
+                run.errorsTruncated);
+    }
+
+    /**
+     * Duplicates are only detected by the unique email index. If it was never built (the startup
+     * index check skips it while the collection still holds duplicate emails), an import would
+     * silently insert duplicates, so refuse to run instead.
+     */
+    private void requireUniqueEmailIndex() {
+        boolean indexed = mongoTemplate.indexOps(Datacore.class).getIndexInfo().stream()
+                .anyMatch(index -> index.isUnique()
+                        && index.getIndexFields().size() == 1
+                        && "email".equals(index.getIndexFields().get(0).getKey()));
+        if (!indexed) {
+            ValidatorException ex = new ValidatorException("Thiếu chỉ mục email duy nhất cho datacore.");
+            ex.add(Errors.DATACORE_EMAIL_INDEX_MISSING);
+            ex.setHttpCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            throw ex;
+        }
+    }
+
+    private DatacoreImportCheckpoint openCheckpoint(String importId, Format format) {
+        String id = importId != null && !importId.isBlank() ? importId : UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        DatacoreImportCheckpoint checkpoint = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(id)),
+                new Update()
+                        .setOnInsert("format", format.name())
+                        .setOnInsert("committedRows", 0L)
+                        .setOnInsert("inserted", 0L)
+                        .setOnInsert("duplicates", 0L)
+                        .setOnInsert("invalid", 0L)
+                        .setOnInsert("status", DatacoreImportCheckpoint.Status.RUNNING)
+                        .setOnInsert("createdAt", now)
+                        .set("updatedAt", now),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                DatacoreImportCheckpoint.class);
+        if (checkpoint.getStatus() == DatacoreImportCheckpoint.Status.COMPLETED) {
+            ValidatorException ex = new ValidatorException("Import đã hoàn tất.");
+            ex.add(Errors.DATACORE_IMPORT_COMPLETED);
+            ex.setHttpCode(HttpStatus.CONFLICT);
+            throw ex;
+        }
+        return checkpoint;
+    }
+
+    private void readCsv(BufferedReader reader, Run run) throws IOException {
+        // spreadsheet exports often start with a BOM, which would otherwise stick to the first column name
+        reader.mark(1);
+        if (reader.read() != BYTE_ORDER_MARK) {
+            reader.reset();
+        }
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.keySet().containsAll(CSV_COLUMNS)) {
+            ValidatorException ex = new ValidatorException("CSV header must contain " + CSV_COLUMNS + ".");
+            ex.add(Errors.DATACORE_IMPORT_FORMAT);
+            ex.setHttpCode(HttpStatus.BAD_REQUEST);
+            throw ex;
+        }
+
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            run.row++;
+            if (run.row <= run.skip) {
+                continue;
+            }
+            String email = column(record, columns, "email");
+            try {
+                run.accept(new CreateDatacoreRequest(
+                        column(record, columns, "firstname"),
+                        column(record, columns, "lastname"),
+                        parseDepartment(column(record, columns, "department")),
+                        parseRoles(column(record, columns, "role")),
+                        email,
+                        null,
+                        null));
+            } catch (IllegalArgumentException e) {
+                run.invalid(email, e.getMessage());
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Run run) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            run.row++;
+            if (run.row <= run.skip) {
+                continue;
+            }
+            try {
+                run.accept(requestReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                run.invalid(null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        int index = columns.get(name);
+        if (index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Department parseDepartment(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Department.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown department: " + value);
+        }
+    }
+
+    private static List<Role> parseRoles(String value) {
+        if (value == null) {
+            return null;
+        }
+        List<Role> roles = new ArrayList<>();
+        for (String role : value.split("[;|]")) {
+            if (role.isBlank()) {
+                continue;
+            }
+            try {
+                roles.add(Role.valueOf(role.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown role: " + role.trim() + "; expected one of " + Arrays.toString(Role.values()));
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * State of one upload: the current batch, counters not yet checkpointed and the error report.
+     */
+    private final class Run {
+
+        final String importId;
+        final long skip;
+        long row;
+
+        final List<Datacore> batch = new ArrayList<>(batchSize);
+        final List<Long> batchRows = new ArrayList<>(batchSize);
+        long pendingInvalid;
+
+        final List<RowError> errors = new ArrayList<>();
+        boolean errorsTruncated;
+
+        Run(String importId, long skip) {
+            this.importId = importId;
+            this.skip = skip;
+        }
+
+        void accept(CreateDatacoreRequest request) {
+            Set<ConstraintViolation<CreateDatacoreRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                ConstraintViolation<CreateDatacoreRequest> first = violations.iterator().next();
+                invalid(request.email(), first.getPropertyPath() + " " + first.getMessage());
+                return;
+            }
+            batch.add(new Datacore(
+                    UUID.randomUUID().toString(),
+                    request.firstName(),
+                    request.lastName(),
+                    request.department(),
+                    request.role(),
+                    request.email(),
+                    request.studentProfile(),
+                    request.tutorProfile()));
+            batchRows.add(row);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void invalid(String email, String message) {
+            pendingInvalid++;
+            report(row, email, "invalid", message);
+        }
+
+        void flush() {
+            long duplicates = 0;
+            long failed = 0;
+            if (!batch.isEmpty()) {
+                BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Datacore.class);
+                bulk.insert(batch);
+                try {
+                    bulk.execute();
+                } catch (BulkOperationException e) {
+                    for (BulkWriteError error : e.getErrors()) {
+                        Datacore rejected = batch.get(error.getIndex());
+                        long rejectedRow = batchRows.get(error.getIndex());
+                        if (error.getCode() == DUPLICATE_KEY) {
+                            duplicates++;
+                            report(rejectedRow, rejected.getEmail(), Errors.DATACORE_EMAIL_EXISTS.code(),
+                                    Errors.DATACORE_EMAIL_EXISTS.message());
+                        } else {
+                            failed++;
+                            report(rejectedRow, rejected.getEmail(), "write_failed", error.getMessage());
+                        }
+                    }
+                }
+            }
+
+            mongoTemplate.updateFirst(
+                    new Query(Criteria.where("_id").is(importId)),
+                    new Update()
+                            .max("committedRows", row)
+                            .inc("inserted", batch.size() - duplicates - failed)
+                            .inc("duplicates", duplicates)
+                            .inc("invalid", pendingInvalid + failed)
+                            .set("updatedAt", Instant.now()),
+                    DatacoreImportCheckpoint.class);
+            batch.clear();
+            batchRows.clear();
+            pendingInvalid = 0;
+        }
+
+        void report(long errorRow, String email, String code, String message) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RowError(errorRow, email, code, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
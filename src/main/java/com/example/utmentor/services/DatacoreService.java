@@ -1,27 +1,58 @@
 package com.example.utmentor.services;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.example.utmentor.infrastructures.cache.PageTotalCache;
+import com.example.utmentor.infrastructures.repository.Interface.DatacoreQueryRepository;
 import com.example.utmentor.infrastructures.repository.Interface.DatacoreRepository;
+import com.example.utmentor.models.docEntities.Department;
 import com.example.utmentor.models.docEntities.HCMUT_DATACORE.Datacore;
+import com.example.utmentor.models.docEntities.Role;
+import com.example.utmentor.models.webModels.PageCursor;
+import com.example.utmentor.models.webModels.PageResponse;
 import com.example.utmentor.models.webModels.datacore.CreateDatacoreRequest;
 import com.example.utmentor.models.webModels.datacore.DatacoreResponse;
 import com.example.utmentor.models.webModels.datacore.UpdateDatacoreRequest;
 import com.example.utmentor.util.Errors;
 import com.example.utmentor.util.ValidatorException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Service
 public class DatacoreService {
+    public enum ExportFormat { NDJSON, CSV }
+
     private final DatacoreRepository _repository;
+    private final DatacoreQueryRepository _queryRepository;
+    private final PageTotalCache _pageTotalCache;
+    private final ObjectMapper _objectMapper;
+    private final int _exportBatchSize;
     
-    public DatacoreService(DatacoreRepository repository) {
+    public DatacoreService(DatacoreRepository repository,
+                           DatacoreQueryRepository queryRepository,
+                           PageTotalCache pageTotalCache,
+                           ObjectMapper objectMapper,
+                           @Value("${datacore.export.batch-size:500}") int exportBatchSize) {
         this._repository = repository;
+        this._queryRepository = queryRepository;
+        this._pageTotalCache = pageTotalCache;
+        this._objectMapper = objectMapper;
+        this._exportBatchSize = exportBatchSize;
     }
 
     public DatacoreResponse createDatacore(CreateDatacoreRequest request) {
@@ -51,6 +82,7 @@ public class DatacoreService {
         );
 
         Datacore savedDatacore = _repository.save(datacore);
+        _pageTotalCache.invalidatePrefix(PageTotalCache.DATACORE_PREFIX);
         return mapToResponse(savedDatacore);
     }
 
@@ -76,12 +108,128 @@ public class DatacoreService {
         return mapToResponse(datacoreOpt.get());
     }
 
-    public List<DatacoreResponse> getAllDatacore() {
-        List<Datacore> datacores = _repository.findAll();
-        return datacores.stream()
-                .filter(datacore -> !datacore.isDeleted())
+    public PageResponse<DatacoreResponse> getDatacorePage(String department, String role, boolean includeDeleted,
+                                                          int limit, String cursor) {
+        DatacoreQueryRepository.Filter filter = parseFilter(department, role, includeDeleted);
+        int pageSize = Math.min(Math.max(1, limit), 200);
+        List<Datacore> rows = _queryRepository.findPage(filter, pageSize, PageCursor.decode(cursor));
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = DatacoreQueryRepository.cursorAfter(rows.get(pageSize - 1)).encode();
+        }
+
+        DatacoreQueryRepository.Total total = _queryRepository.count(filter);
+        List<DatacoreResponse> data = rows.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
+        return new PageResponse<>(data, 1, pageSize, total.value(), total.exact(), nextCursor);
+    }
+
+    public ExportFormat parseExportFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            ValidatorException ex = new ValidatorException("Export format must be 'ndjson' or 'csv'.");
+            ex.add("format", "INVALID_FORMAT", "Export format must be 'ndjson' or 'csv'.");
+            ex.setHttpCode(HttpStatus.BAD_REQUEST);
+            throw ex;
+        }
+    }
+
+    /**
+     * Validates the filter up front so a bad request fails before any bytes are streamed.
+     */
+    public DatacoreQueryRepository.Filter parseFilter(String department, String role, boolean includeDeleted) {
+        ValidatorException ex = new ValidatorException("Invalid datacore filter.");
+        Department departmentEnum = null;
+        Role roleEnum = null;
+        if (department != null && !department.isBlank()) {
+            try {
+                departmentEnum = Department.valueOf(department.trim());
+            } catch (IllegalArgumentException e) {
+                ex.add("department", "INVALID_DEPARTMENT", "Invalid department: " + department + ".");
+            }
+        }
+        if (role != null && !role.isBlank()) {
+            try {
+                roleEnum = Role.valueOf(role.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                ex.add("role", "INVALID_ROLE", "Invalid role: " + role + ".");
+            }
+        }
+        if (ex.hasAny()) {
+            ex.setHttpCode(HttpStatus.BAD_REQUEST);
+            throw ex;
+        }
+        return new DatacoreQueryRepository.Filter(departmentEnum, roleEnum, includeDeleted);
+    }
+
+    /**
+     * Writes every matching row straight from a Mongo cursor, flushing after each batch,
+     * so memory stays flat and the client starts receiving data immediately.
+     */
+    public void exportDatacore(DatacoreQueryRepository.Filter filter, ExportFormat format, OutputStream out)
+            throws IOException {
+        boolean ndjson = format == ExportFormat.NDJSON;
+        try (Stream<Datacore> rows = _queryRepository.stream(filter, _exportBatchSize, ndjson)) {
+            Iterator<Datacore> iterator = rows.iterator();
+            if (ndjson) {
+                writeNdjson(iterator, out);
+            } else {
+                writeCsv(iterator, out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<Datacore> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = _objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        int written = 0;
+        while (rows.hasNext()) {
+            generator.writeObject(mapToResponse(rows.next()));
+            generator.writeRaw('\n');
+            if (++written % _exportBatchSize == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<Datacore> rows, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write("id,firstName,lastName,department,role,email,isDeleted\n");
+        writer.flush();
+        int written = 0;
+        while (rows.hasNext()) {
+            Datacore row = rows.next();
+            String roles = row.getRole() == null ? "" : row.getRole().stream()
+                    .map(Enum::name)
+                    .collect(Collectors.joining(";"));
+            writer.write(csvField(row.getId()) + ','
+                    + csvField(row.getFirstName()) + ','
+                    + csvField(row.getLastName()) + ','
+                    + csvField(row.getDepartment() != null ? row.getDepartment().name() : null) + ','
+                    + csvField(roles) + ','
+                    + csvField(row.getEmail()) + ','
+                    + row.isDeleted() + '\n');
+            if (++written % _exportBatchSize == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
     }
 
     public DatacoreResponse updateDatacore(UpdateDatacoreRequest request) {
@@ -123,6 +271,7 @@ public class DatacoreService {
         existing.setTutorProfile(request.tutorProfile());
 
         Datacore updatedDatacore = _repository.save(existing);
+        _pageTotalCache.invalidatePrefix(PageTotalCache.DATACORE_PREFIX);
         return mapToResponse(updatedDatacore);
     }
 
@@ -146,6 +295,7 @@ public class DatacoreService {
         // Soft delete
         datacore.setDeleted(true);
         _repository.save(datacore);
+        _pageTotalCache.invalidatePrefix(PageTotalCache.DATACORE_PREFIX);
     }
 
     public void hardDeleteDatacore(String id) {
@@ -156,6 +306,7 @@ public class DatacoreService {
             throw ex;
         }
         _repository.deleteById(id);
+        _pageTotalCache.invalidatePrefix(PageTotalCache.DATACORE_PREFIX);
     }
 
     private DatacoreResponse mapToResponse(Datacore datacore) {
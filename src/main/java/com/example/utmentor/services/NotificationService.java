@@ -1,19 +1,19 @@
 package com.example.utmentor.services;
 
 
-import com.example.utmentor.handler.WebSocketHandler;
+import com.example.utmentor.infrastructures.notification.NotificationDeliveryBus;
+import com.example.utmentor.infrastructures.notification.NotificationDispatcher;
 import com.example.utmentor.infrastructures.repository.Interface.NotificationRepository;
 import com.example.utmentor.models.docEntities.Notification.Notification;
+import com.example.utmentor.models.webModels.PageCursor;
+import com.example.utmentor.models.webModels.PageResponse;
 import com.example.utmentor.models.webModels.notification.NotificationResponse;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
-import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,60 +25,59 @@ public class NotificationService {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    private final WebSocketHandler handler;
+    private final NotificationDispatcher dispatcher;
+
+    private final NotificationDeliveryBus deliveryBus;
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
-    public void sendNotificationForNewConnection(Notification notification) throws IOException {
-
-        CompletableFuture<Void> sendMessageFuture = CompletableFuture.runAsync(()->{
-        var tutorId = notification.getToUserId();
-
-        NotificationResponse response = new NotificationResponse(
-                notification.getId(),
-                "Yêu cầu kết nối mới",
-                notification.getType(),
-                notification.getContent(),
-                notification.isRead(),
-                notification.getUpdatedAt().toString()
-        );
-
-        var sendUserId = notification.getSendUserId();
-
-        var  ReceiveSession = handler.getSessions().get(tutorId);
-
-        if (ReceiveSession != null && ReceiveSession.isOpen()) {
-            try {
-                handler.sendMessage(ReceiveSession, Map.of(
-                    "type", "PRIVATE_NOTIFICATION",
-                    "to" , tutorId,
-                    "from" , sendUserId,
-                    "content", response));
-            } catch (IOException e) {
-                logger.error("Failed to send notification via WebSocket", e);
-            }
-        }
-        });
+    public void sendNotificationForNewConnection(Notification notification) {
+        sendNotification(notification, "Yêu cầu kết nối mới");
+    }
 
-        CompletableFuture<Void> saveDbFuture = CompletableFuture.runAsync(() -> {
-            notificationRepository.save(notification);
+    public void sendNotificationForConnectionResponse(Notification notification) {
+        sendNotification(notification, "Phản hồi yêu cầu kết nối");
+    }
+
+    /**
+     * Stores the notification with the recipient's next sequence number, then hands it to the
+     * delivery bus. The stored copy is the outbox: anything the push misses is replayed
+     * by WebSocketHandler when the user reconnects.
+     * Runs in the recipient's dispatcher lane, so notifications for one user are stored and
+     * published in seq order; unread is only counted once the insert has succeeded.
+     */
+    private void sendNotification(Notification notification, String title) {
+        var toUserId = notification.getToUserId();
+        dispatcher.submitOrdered(toUserId, "notify " + notification.getId(), () -> {
+            notification.setTitle(title);
+            notification.setSeq(notificationRepository.nextSeq(toUserId));
+            notificationRepository.insert(notification);
+            notificationRepository.incrementUnread(toUserId);
+
+            deliveryBus.publish(notification);
         });
     }
 
-    public List<NotificationResponse> getNotificationsForCurrentUser(String ToUserId) {
+    public PageResponse<NotificationResponse> getNotificationsForCurrentUser(String ToUserId, int limit, String cursor) {
+        int pageSize = Math.min(Math.max(1, limit), 100);
+        List<Notification> notifications = notificationRepository.findFeed(ToUserId, pageSize, PageCursor.decode(cursor));
+
+        String nextCursor = null;
+        if (notifications.size() > pageSize) {
+            notifications = notifications.subList(0, pageSize);
+            nextCursor = NotificationRepository.feedCursorAfter(notifications.get(pageSize - 1)).encode();
+        }
 
-        List<Notification> notifications = notificationRepository.findByToUserId(ToUserId);
+        List<NotificationResponse> responseList = notifications.stream()
+                .map(notification -> NotificationResponse.from(notification, "Thông báo"))
+                .toList();
 
-        List<NotificationResponse> responseList = notifications.stream().map(notification -> new NotificationResponse(
-                notification.getId(),
-                "Thông báo",
-                notification.getType(),
-                notification.getContent(),
-                notification.isRead(),
-                notification.getUpdatedAt().toString()
-        )).toList();
+        // the feed is cursor-only; total is the size of this page, not a count of the collection
+        return new PageResponse<>(responseList, 1, pageSize, responseList.size(), false, nextCursor);
+    }
 
-        return responseList;
+    public long getUnreadCount(String userId) {
+        return notificationRepository.findUnreadCount(userId);
     }
 
 }
\ No newline at end of file
@@ -2,73 +2,58 @@ package com.example.utmentor.services;
 
 import java.security.SecureRandom;
 import java.time.Instant;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.example.utmentor.infrastructures.otp.OtpStore;
+
 @Service
 public class OtpService {
-    private final ConcurrentMap<String, OtpData> otpStorage = new ConcurrentHashMap<>();
+    private final OtpStore otpStore;
     private final SecureRandom random = new SecureRandom();
     private static final int OTP_EXPIRY_MINUTES = 10;
+    private final int maxAttempts;
+
+    public OtpService(OtpStore otpStore, @Value("${otp.max-attempts:5}") int maxAttempts) {
+        this.otpStore = otpStore;
+        this.maxAttempts = maxAttempts;
+    }
 
     public String generateOtp(String email) {
         // Generate 6-digit OTP
         String otp = String.format("%06d", random.nextInt(1000000));
         
-        // Store OTP with expiry time
+        // Store OTP with expiry time; the store drops it on expiry
         Instant expiryTime = Instant.now().plusSeconds(OTP_EXPIRY_MINUTES * 60);
-        otpStorage.put(email, new OtpData(otp, expiryTime));
+        otpStore.put(email, otp, expiryTime);
         
         return otp;
     }
 
     public boolean validateOtp(String email, String otp) {
-        OtpData otpData = otpStorage.get(email);
+        var otpData = otpStore.find(email);
         
-        if (otpData == null) {
-            return false; // OTP not found
+        if (otpData.isEmpty()) {
+            return false; // OTP not found or expired
         }
         
-        if (Instant.now().isAfter(otpData.expiryTime)) {
-            otpStorage.remove(email); // Clean up expired OTP
-            return false; // OTP expired
+        if (otpStore.consume(email, otp)) {
+            return true; // Removed after successful validation
         }
-        
-        if (otpData.otp.equals(otp)) {
-            otpStorage.remove(email); // Remove OTP after successful validation
-            return true;
+
+        // Too many wrong guesses: drop the OTP so a new one has to be requested
+        if (otpStore.recordFailedAttempt(email) >= maxAttempts) {
+            otpStore.remove(email);
         }
-        
         return false; // Invalid OTP
     }
 
     public void clearOtp(String email) {
-        otpStorage.remove(email);
+        otpStore.remove(email);
     }
 
     public boolean hasValidOtp(String email) {
-        OtpData otpData = otpStorage.get(email);
-        if (otpData == null) {
-            return false;
-        }
-        
-        if (Instant.now().isAfter(otpData.expiryTime)) {
-            otpStorage.remove(email);
-            return false;
-        }
-        
-        return true;
-    }
-
-    private static class OtpData {
-        final String otp;
-        final Instant expiryTime;
-
-        OtpData(String otp, Instant expiryTime) {
-            this.otp = otp;
-            this.expiryTime = expiryTime;
-        }
+        return otpStore.find(email).isPresent();
     }
 }
@@ -5,15 +5,22 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import com.example.utmentor.infrastructures.repository.Interface.*;
+import com.example.utmentor.infrastructures.cache.ConnectionStatusCache;
+import com.example.utmentor.infrastructures.cache.UserSummaryCache;
 import com.example.utmentor.models.docEntities.Connection.Connection;
+import com.example.utmentor.models.docEntities.Connection.StatusRequest;
 import com.example.utmentor.models.docEntities.Expertise;
 import com.example.utmentor.models.webModels.profile.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -21,12 +28,15 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import com.example.utmentor.infrastructures.search.TutorProfileChangedEvent;
 import com.example.utmentor.models.docEntities.Department;
 
 import com.example.utmentor.models.docEntities.Rating;
 import com.example.utmentor.models.docEntities.users.StudentProfile;
 import com.example.utmentor.models.docEntities.users.TutorProfile;
 import com.example.utmentor.models.docEntities.users.User;
+import com.example.utmentor.models.docEntities.users.UserSummary;
+import com.example.utmentor.models.webModels.PageCursor;
 import com.example.utmentor.models.webModels.PageResponse;
 
 import com.example.utmentor.models.webModels.profile.ProfileInfoResponse;
@@ -41,9 +51,6 @@ public class ProfileService {
     @Autowired
     private MongoTemplate mongoTemplate;
 
-    @Autowired
-    private UserRepository userRepository;
-
     @Autowired
     private StudentProfileRepository studentProfileRepository;
 
@@ -53,17 +60,26 @@ public class ProfileService {
     @Autowired
     private RatingRepository ratingRepository;
 
+    @Autowired
+    private ConnectionRepository connectionRepository;
+
     @Autowired
     private GoogleCloudStorageService googleCloudStorageService;
 
     @Autowired
-    private ConnectionRepository connectionRepository;
+    private ConnectionStatusCache connectionStatusCache;
+
+    @Autowired
+    private UserSummaryCache userSummaryCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
 
     public ProfileInfoResponse getProfileInfo(String userId, String currentUserId) {
-        User user = userRepository.findById(userId)
+        UserSummary user = userSummaryCache.findById(userId)
                 .orElseThrow(() -> new ValidatorException(Errors.USER_NOT_FOUND));
-        User currentUser = userRepository.findById(currentUserId)
+        UserSummary currentUser = userSummaryCache.findById(currentUserId)
                 .orElseThrow(() -> new ValidatorException(Errors.USER_NOT_FOUND));
 
         ProfileInfoResponse.StudentProfileDTO studentDTO = null;
@@ -75,13 +91,13 @@ public class ProfileService {
 
         ProfileInfoResponse.TutorProfileDTO tutorDTO = null;
 
-        tutorDTO = tutorProfileRepository.findById(userId, currentUserId)
+        tutorDTO = tutorProfileRepository.findById(userId)
                                         .map(this::mapToTutorDTO)
                                         .orElse(null);
 
         if(currentUser.hasStudentProfile() && tutorDTO != null) {
-            Connection connection = connectionRepository.findFirstByTutorIdAndStudentId(userId, currentUserId);
-            if (connection != null) {
+            StatusRequest status = connectionStatusCache.statusFor(currentUserId, userId);
+            if (status != null) {
                 tutorDTO = new ProfileInfoResponse.TutorProfileDTO(
                     tutorDTO.currMenteeCount(),
                     tutorDTO.maximumCapacity(),
@@ -92,18 +108,18 @@ public class ProfileService {
                     tutorDTO.totalStudentTaught(),
                     tutorDTO.yearsOfExperience(),
                     tutorDTO.achievements(),
-                    connection.getStatus()
+                    status
                 );
             }
         }
 
         return new ProfileInfoResponse(
-            user.getFirstName(),
-            user.getLastName(),
-            user.getAvatarUrl(),
-            user.getEmail(),
-            user.getPhoneNumber(),
-            user.getDepartment() != null ? user.getDepartment().name() : null,
+            user.firstName(),
+            user.lastName(),
+            user.avatarUrl(),
+            user.email(),
+            user.phoneNumber(),
+            user.department() != null ? user.department().name() : null,
             studentDTO,
             tutorDTO
         );
@@ -139,8 +155,8 @@ public class ProfileService {
         );
     }
 
-    public PageResponse<ReviewResponse> getTutorReviews(String tutorId, int page, int pageSize, String sort) {
-        User tutor = userRepository.findById(tutorId)
+    public PageResponse<ReviewResponse> getTutorReviews(String tutorId, int page, int pageSize, String sort, String cursor) {
+        UserSummary tutor = userSummaryCache.findById(tutorId)
                 .orElseThrow(() -> new ValidatorException(Errors.USER_NOT_FOUND));
 
         if (!tutor.hasTutorProfile()) {
@@ -148,32 +164,75 @@ public class ProfileService {
         }
 
         Pageable pageable = PageRequest.of(Math.max(0, page - 1), Math.min(Math.max(1, pageSize), 100));
-        return ratingRepository.findTutorReviewsWithReviewerInfo(tutorId, pageable, sort);
+        return ratingRepository.findTutorReviewsWithReviewerInfo(tutorId, pageable, sort, PageCursor.decode(cursor));
     }
 
     public Map<Integer,Integer> getTutorRatingDistribution(String tutorId) {
-        User tutor = userRepository.findById(tutorId)
+        List<Integer> histogram = tutorProfileRepository.findRatingHistogram(tutorId)
                 .orElseThrow(() -> new ValidatorException(Errors.USER_NOT_FOUND));
 
-        if (!tutor.hasTutorProfile()) {
-            throw new ValidatorException(Errors.USER_NOT_FOUND);
+        Map<Integer, Integer> distribution = new HashMap<>();
+        for (int i = 1; i <= 5; i++) {
+            Integer count = histogram.size() >= i ? histogram.get(i - 1) : null;
+            distribution.put(i, count != null ? count : 0);
         }
 
-        List<Rating> ratings = ratingRepository.findByRevieweeID(tutorId);
+        return distribution;
+    }
 
-        Map<Integer, Integer> distribution = new HashMap<>();
-        for (int i = 1; i <= 5; i++) {
-            distribution.put(i, 0);
+    public ReviewResponse createTutorReview(String reviewerId, CreateReviewRequest request) {
+        UserSummary reviewer = userSummaryCache.findById(reviewerId)
+                .orElseThrow(() -> new ValidatorException(Errors.USER_NOT_FOUND));
+
+        if (reviewerId.equals(request.tutorId())) {
+            ValidatorException vex = new ValidatorException("Không thể tự đánh giá.");
+            vex.add(Errors.SELF_REVIEW);
+            vex.setHttpCode(HttpStatus.BAD_REQUEST);
+            throw vex;
+        }
+        if (!tutorProfileRepository.existsById(request.tutorId())) {
+            ValidatorException vex = new ValidatorException("Không tìm thấy gia sư.");
+            vex.add(Errors.TUTOR_NOT_FOUND);
+            vex.setHttpCode(HttpStatus.NOT_FOUND);
+            throw vex;
+        }
+        Connection connection = connectionRepository.findFirstByTutorIdAndStudentId(request.tutorId(), reviewerId);
+        if (connection == null || connection.getStatus() != StatusRequest.ACCEPTED) {
+            ValidatorException vex = new ValidatorException("Chỉ học viên đã được gia sư chấp nhận mới có thể đánh giá.");
+            vex.add(Errors.REVIEW_NOT_ALLOWED);
+            vex.setHttpCode(HttpStatus.FORBIDDEN);
+            throw vex;
         }
 
-        for (Rating rating : ratings) {
-            Integer ratingValue = rating.getRating();
-            if (ratingValue != null && ratingValue >= 1 && ratingValue <= 5) {
-                distribution.put(ratingValue, distribution.get(ratingValue) + 1);
-            }
+        Rating saved;
+        try {
+            saved = ratingRepository.insertReview(new Rating(
+                    UUID.randomUUID().toString(),
+                    request.tutorId(),
+                    reviewerId,
+                    request.rating(),
+                    request.comment(),
+                    Instant.now()
+            ));
+        } catch (DuplicateKeyException e) {
+            // unique (reviewerID, revieweeID) index: one review per student and tutor
+            ValidatorException vex = new ValidatorException("Bạn đã đánh giá gia sư này.");
+            vex.add(Errors.REVIEW_EXISTS);
+            vex.setHttpCode(HttpStatus.CONFLICT);
+            throw vex;
         }
 
-        return distribution;
+        String reviewerName = reviewer.firstName() != null && reviewer.lastName() != null
+                ? reviewer.firstName() + " " + reviewer.lastName()
+                : (reviewer.firstName() != null ? reviewer.firstName() : "Unknown");
+        return new ReviewResponse(
+                saved.getId(),
+                reviewerName,
+                reviewer.avatarUrl(),
+                saved.getRating(),
+                saved.getComment(),
+                saved.getTimestamp()
+        );
     }
 
     public PageResponse<TutorListItem> searchTutors(
@@ -182,7 +241,8 @@ public class ProfileService {
             List<String> expertise,
             String sort,
             int page,
-            int pageSize
+            int pageSize,
+            String cursor
     ) {
         ValidatorException validatorException = new ValidatorException("ProfileService");
         
@@ -229,6 +289,13 @@ public class ProfileService {
             }
         }
         
+        PageCursor pageCursor = null;
+        try {
+            pageCursor = PageCursor.decode(cursor);
+        } catch (ValidatorException e) {
+            validatorException.add(Errors.INVALID_CURSOR);
+        }
+
         if (validatorException.hasAny()) {
             throw validatorException;
         }
@@ -239,7 +306,8 @@ public class ProfileService {
             departmentEnum,
             expertiseEnums,
             sort,
-            pageable
+            pageable,
+            pageCursor
         );
     }
     
@@ -277,6 +345,8 @@ public class ProfileService {
         if (hasUpdate) {
             update.set("updateAt", Instant.now());
             mongoTemplate.updateFirst(query, update, User.class);
+            userSummaryCache.invalidate(userId);
+            eventPublisher.publishEvent(new TutorProfileChangedEvent(userId));
         } else {
             System.out.println("No fields to update");
         }
@@ -292,6 +362,7 @@ public class ProfileService {
         update.set("updateAt", Instant.now());
 
         mongoTemplate.updateFirst(query, update, TutorProfile.class);
+        eventPublisher.publishEvent(new TutorProfileChangedEvent(tutorId));
     }
     public UpdateProfileTutorResponse updateTutorProfile(String tutorId, MultipartFile avatarFile, String phoneNumber, String description, List<Expertise> expertise, List<Achievement> achievements) throws IOException {
 
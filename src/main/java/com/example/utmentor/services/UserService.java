@@ -6,24 +6,35 @@ import java.util.Optional;
 import java.util.UUID;
 
 import com.example.utmentor.models.webModels.profile.GetIdResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.example.utmentor.infrastructures.cache.UserSummaryCache;
 import com.example.utmentor.infrastructures.repository.Interface.UserRepository;
+import com.example.utmentor.infrastructures.securities.PasswordHashingService;
+import com.example.utmentor.infrastructures.search.TutorProfileChangedEvent;
 import com.example.utmentor.models.docEntities.Role;
 import com.example.utmentor.models.docEntities.users.User;
+import com.example.utmentor.models.docEntities.users.UserSummary;
 import com.example.utmentor.util.Errors;
 import com.example.utmentor.util.ValidatorException;
 
 @Service
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    private final PasswordHashingService passwordHashing;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserSummaryCache userSummaryCache;
+
+    public UserService(UserRepository userRepository,
+                       PasswordHashingService passwordHashing,
+                       ApplicationEventPublisher eventPublisher,
+                       UserSummaryCache userSummaryCache) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashing = passwordHashing;
+        this.eventPublisher = eventPublisher;
+        this.userSummaryCache = userSummaryCache;
     }
 
     // CRUD
@@ -35,6 +46,10 @@ public class UserService {
         return userRepository.findById(userId);
     }
 
+    public Optional<UserSummary> findSummaryById(String userId) {
+        return userSummaryCache.findById(userId);
+    }
+
     public User create(User userInput) {
         // Basic validation
         ValidatorException vex = new ValidatorException("Create user failed.");
@@ -54,7 +69,7 @@ public class UserService {
 
         String id = userInput.getId() != null ? userInput.getId() : UUID.randomUUID().toString();
         List<Role> roles = userInput.getRoles() != null ? userInput.getRoles() : new ArrayList<>();
-        String passwordHash = passwordEncoder.encode(userInput.getPasswordHash());
+        String passwordHash = passwordHashing.hash(userInput.getPasswordHash());
 
         User user = new User(
                 id,
@@ -98,7 +113,10 @@ public class UserService {
             existing.setRoles(partial.getRoles());
         }
 
-        return userRepository.save(existing);
+        User saved = userRepository.save(existing);
+        userSummaryCache.invalidate(userId);
+        eventPublisher.publishEvent(new TutorProfileChangedEvent(userId));
+        return saved;
     }
 
     public void delete(String userId) {
@@ -108,6 +126,8 @@ public class UserService {
             throw vex;
         }
         userRepository.deleteById(userId);
+        userSummaryCache.invalidate(userId);
+        eventPublisher.publishEvent(new TutorProfileChangedEvent(userId));
     }
 
     // Password operations
@@ -119,13 +139,13 @@ public class UserService {
             throw vex;
         }
         User user = userOpt.get();
-        boolean matches = passwordEncoder.matches(currentRawPassword, user.getPasswordHash());
+        boolean matches = passwordHashing.matches(currentRawPassword, user.getPasswordHash());
         if (!matches) {
             ValidatorException vex = new ValidatorException("Invalid current password");
             vex.setHttpCode(HttpStatus.UNAUTHORIZED);
             throw vex;
         }
-        user.setPasswordHash(passwordEncoder.encode(newRawPassword));
+        user.setPasswordHash(passwordHashing.hash(newRawPassword));
         userRepository.save(user);
     }
 
@@ -137,7 +157,7 @@ public class UserService {
             throw vex;
         }
         User user = userOpt.get();
-        user.setPasswordHash(passwordEncoder.encode(newRawPassword));
+        user.setPasswordHash(passwordHashing.hash(newRawPassword));
         userRepository.save(user);
     }
 
@@ -152,6 +172,7 @@ public class UserService {
         User user = userOpt.get();
         user.addRole(role);
         userRepository.save(user);
+        userSummaryCache.invalidate(userId);
     }
 
     public void removeRole(String userId, Role role) {
@@ -164,6 +185,7 @@ public class UserService {
         User user = userOpt.get();
         user.removeRole(role);
         userRepository.save(user);
+        userSummaryCache.invalidate(userId);
     }
 
     public void setRoles(String userId, List<Role> roles) {
@@ -176,10 +198,11 @@ public class UserService {
         User user = userOpt.get();
         user.setRoles(roles);
         userRepository.save(user);
+        userSummaryCache.invalidate(userId);
     }
     public GetIdResponse getUserIdByUsername(String username) {
-        User user = userRepository.findByUsername(username)
+        UserSummary user = userSummaryCache.findByUsername(username)
                 .orElseThrow(() -> new ValidatorException(Errors.USER_NOT_FOUND));
-        return new GetIdResponse(user.getId());
+        return new GetIdResponse(user.id());
     }
 }
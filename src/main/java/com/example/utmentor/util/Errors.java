@@ -36,6 +36,21 @@ public final class Errors {
     
     public static final ErrorItem DATACORE_ALREADY_DELETED =
             new ErrorItem("datacore", "already_deleted", "Datacore record is already deleted.");
+
+    public static final ErrorItem DATACORE_IMPORT_FORMAT =
+            new ErrorItem("contentType", "unsupported", "Import accepts text/csv or application/x-ndjson.");
+
+    public static final ErrorItem DATACORE_IMPORT_COMPLETED =
+            new ErrorItem("importId", "completed", "This import has already completed.");
+
+    public static final ErrorItem DATACORE_EMAIL_INDEX_MISSING =
+            new ErrorItem("datacore", "email_index_missing", "The unique email index on datacore is missing; imports are disabled.");
+
+    public static final ErrorItem PROVISIONING_RUNNING =
+            new ErrorItem("provisioning", "running", "Another provisioning job is still running.");
+
+    public static final ErrorItem PROVISIONING_JOB_NOT_FOUND =
+            new ErrorItem("jobId", "not_found", "Provisioning job not found or expired.");
     
     // User management errors
     public static final ErrorItem EMAIL_REQUIRED =
@@ -59,6 +74,35 @@ public final class Errors {
     public static final ErrorItem FAILED_CREATE_CONNECTION =
             new ErrorItem("connection", "creation_failed", "Failed to create connection request.");
 
+    public static final ErrorItem CONNECTION_NOT_FOUND =
+            new ErrorItem("connection", "not_found", "Connection not found.");
+
+    public static final ErrorItem CONNECTION_NOT_PENDING =
+            new ErrorItem("connection", "not_pending", "Connection request is no longer pending.");
+
+    public static final ErrorItem CONNECTION_FORBIDDEN =
+            new ErrorItem("connection", "forbidden", "Only the requested tutor can respond to this connection.");
+
+    public static final ErrorItem TUTOR_AT_CAPACITY =
+            new ErrorItem("tutor", "at_capacity", "Tutor has no remaining mentee capacity.");
+
+    // Review errors
+    public static final ErrorItem SELF_REVIEW =
+            new ErrorItem("review", "self_review", "Tutors cannot review themselves.");
+
+    public static final ErrorItem REVIEW_NOT_ALLOWED =
+            new ErrorItem("review", "not_allowed", "Only students with an accepted connection can review this tutor.");
+
+    public static final ErrorItem REVIEW_EXISTS =
+            new ErrorItem("review", "exists", "You have already reviewed this tutor.");
+
+    // Paging errors
+    public static final ErrorItem INVALID_CURSOR =
+            new ErrorItem("cursor", "invalid", "Cursor is invalid or does not match the requested sort.");
+
+    // Capacity errors
+    public static final ErrorItem SERVICE_BUSY =
+            new ErrorItem("global", "busy", "Server is busy, please retry shortly.");
 
     public static final String USER_NOT_FOUND = "USER_NOT_FOUND";
     public static final String INVALID_TOKEN = "INVALID_TOKEN";
@@ -0,0 +1,123 @@
+package com.example.utmentor.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: deadlines are hashed into {@code wheelSize} buckets of {@code tickMillis}
+ * each, and a single caller-driven {@link #advance} expires whatever is due. Scheduling and
+ * cancelling are O(1); precision is one tick. Replaces one timer per item with one scheduled task.
+ */
+public final class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+
+    private final int mask;
+
+    private final List<Set<Timeout<T>>> buckets;
+
+    private long currentTick;
+
+    private int size;
+
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new LinkedHashSet<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Deadlines already in the past fire on the next {@link #advance}.
+     */
+    public synchronized Timeout<T> schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(this, item, deadlineTick);
+        buckets.get((int) (deadlineTick & mask)).add(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis} and hands every item whose deadline has passed to
+     * {@code onExpired}, outside the wheel's lock.
+     */
+    public void advance(long nowMillis, Consumer<T> onExpired) {
+        List<T> expired = new ArrayList<>();
+        synchronized (this) {
+            long nowTick = nowMillis / tickMillis;
+            long ticks = Math.min(nowTick - currentTick, buckets.size());
+            for (long i = 1; i <= ticks; i++) {
+                Iterator<Timeout<T>> it = buckets.get((int) ((currentTick + i) & mask)).iterator();
+                while (it.hasNext()) {
+                    Timeout<T> timeout = it.next();
+                    if (timeout.deadlineTick <= nowTick) {
+                        it.remove();
+                        size--;
+                        timeout.done = true;
+                        expired.add(timeout.item);
+                    }
+                }
+            }
+            currentTick = Math.max(currentTick, nowTick);
+        }
+        expired.forEach(onExpired);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.done) {
+            return false;
+        }
+        timeout.done = true;
+        buckets.get((int) (timeout.deadlineTick & mask)).remove(timeout);
+        size--;
+        return true;
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    public static final class Timeout<T> {
+
+        private final HashedTimingWheel<T> wheel;
+
+        private final T item;
+
+        private final long deadlineTick;
+
+        // guarded by wheel
+        private boolean done;
+
+        private Timeout(HashedTimingWheel<T> wheel, T item, long deadlineTick) {
+            this.wheel = wheel;
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T item() {
+            return item;
+        }
+
+        /**
+         * @return false if the timeout already fired or was cancelled
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.utmentor.util;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a bounded resource is saturated; rendered as 503 with a {@code Retry-After} header.
+ */
+public class ServiceBusyException extends ValidatorException {
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String title, long retryAfterSeconds) {
+        super(title);
+        this.retryAfterSeconds = retryAfterSeconds;
+        setHttpCode(HttpStatus.SERVICE_UNAVAILABLE);
+        add(Errors.SERVICE_BUSY);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.utmentor.config.Mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+
+import com.example.utmentor.models.docEntities.HCMUT_DATACORE.Datacore;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+class MongoIndexConfigTest {
+
+    private MongoServer server;
+
+    private MongoClient client;
+
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        mongoTemplate = new MongoTemplate(client, "utmentor-test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    void skipsUniqueIndexThatExistingDuplicatesWouldBreak() {
+        mongoTemplate.insert(datacore("2110001", "same@hcmut.edu.vn"));
+        mongoTemplate.insert(datacore("2110002", "same@hcmut.edu.vn"));
+
+        new MongoIndexConfig(mongoTemplate).ensureIndexes();
+
+        assertThat(datacoreIndexNames())
+                .contains("isDeleted_department_id", "isDeleted_role_id")
+                .doesNotContain("email")
+                .noneMatch(name -> name.contains("."));
+    }
+
+    @Test
+    void createsUniqueIndexOnCleanData() {
+        mongoTemplate.insert(datacore("2110001", "first@hcmut.edu.vn"));
+        mongoTemplate.insert(datacore("2110002", "second@hcmut.edu.vn"));
+
+        new MongoIndexConfig(mongoTemplate).ensureIndexes();
+
+        assertThat(datacoreIndexNames()).contains("email");
+    }
+
+    private List<String> datacoreIndexNames() {
+        return mongoTemplate.indexOps(Datacore.class).getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .toList();
+    }
+
+    private static Datacore datacore(String id, String email) {
+        return new Datacore(id, "Nguyen", "An", null, List.of(), email, null, null);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.utmentor.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.utmentor.infrastructures.securities.JwtHandshakeInterceptor;
+
+class WebSocketHandlerInboundTest {
+
+    private final WebSocketHandler handler = new WebSocketHandler();
+
+    @Test
+    void nullFrameIsMalformed() throws Exception {
+        assertThat(reply("null")).contains("Malformed message");
+    }
+
+    @Test
+    void invalidJsonIsMalformed() throws Exception {
+        assertThat(reply("{\"type\":")).contains("Malformed message");
+    }
+
+    @Test
+    void unknownTypeIsReported() throws Exception {
+        assertThat(reply("{\"type\":\"COMMUNITY_MESSAGE\",\"communityId\":\"c-1\",\"content\":\"hi\"}"))
+                .contains("Unknown message type");
+    }
+
+    private String reply(String payload) throws Exception {
+        Map<String, Object> attributes = new ConcurrentHashMap<>();
+        attributes.put(JwtHandshakeInterceptor.PRINCIPAL_ATTRIBUTE, "user-1");
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-1");
+        when(session.getAttributes()).thenReturn(attributes);
+        when(session.isOpen()).thenReturn(true);
+
+        handler.handleTextMessage(session, new TextMessage(payload));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<WebSocketMessage<?>> sent = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, atLeastOnce()).sendMessage(sent.capture());
+        return String.valueOf(sent.getValue().getPayload());
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.utmentor.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.utmentor.infrastructures.notification.NotificationDispatcher;
+import com.example.utmentor.infrastructures.repository.Interface.NotificationRepository;
+import com.example.utmentor.infrastructures.securities.JwtHandshakeInterceptor;
+
+/**
+ * Opens and closes many sessions for many users through the handler, concurrently and over
+ * several rounds, and checks that the registry is empty again afterwards: no user, session or
+ * community membership may outlive the last close.
+ */
+class WebSocketSessionRegistrySoakTest {
+
+    private static final int ROUNDS = 5;
+
+    private static final int USERS = 50;
+
+    private static final int SESSIONS_PER_USER = 4;
+
+    private static final int COMMUNITIES = 7;
+
+    private final WebSocketSessionRegistry registry = new WebSocketSessionRegistry();
+
+    private final WebSocketHandler handler = new WebSocketHandler();
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(16);
+
+    @BeforeEach
+    void setUp() {
+        handler.setSessionRegistry(registry);
+        handler.setNotificationRepository(mock(NotificationRepository.class));
+        handler.setNotificationDispatcher(mock(NotificationDispatcher.class));
+        handler.setSessionExpiryWheel(mock(SessionExpiryWheel.class));
+        handler.setSendTimeLimitMs(5000);
+        handler.setSendBufferSizeLimit(512 * 1024);
+        handler.setInboundBurst(100);
+        handler.setInboundRatePerSecond(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+        handler.shutdownBroadcasts();
+    }
+
+    @Test
+    void registryIsEmptyAfterEverySessionCloses() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            List<WebSocketSession> sessions = new ArrayList<>();
+            for (int user = 0; user < USERS; user++) {
+                for (int i = 0; i < SESSIONS_PER_USER; i++) {
+                    sessions.add(session("r" + round + "-u" + user + "-s" + i, "user-" + user));
+                }
+            }
+
+            runConcurrently(sessions, session -> {
+                handler.afterConnectionEstablished(session);
+                String communityId = "community-" + Math.floorMod(session.getId().hashCode(), COMMUNITIES);
+                handler.handleTextMessage(session, new TextMessage(
+                        "{\"type\":\"JOIN_COMMUNITY\",\"communityId\":\"" + communityId + "\"}"));
+            });
+            assertThat(registry.userCount()).isEqualTo(USERS);
+            assertThat((Map<?, ?>) ReflectionTestUtils.getField(registry, "communityMembers")).isNotEmpty();
+
+            runConcurrently(sessions, session -> {
+                // some connections fail first; the close that follows must not trip over the
+                // session having been removed already
+                if (Math.floorMod(session.getId().hashCode(), 3) == 0) {
+                    handler.handleTransportError(session, new IllegalStateException("connection reset"));
+                }
+                handler.afterConnectionClosed(session, CloseStatus.GOING_AWAY);
+            });
+
+            assertThat(registry.userCount()).isZero();
+            for (int user = 0; user < USERS; user++) {
+                assertThat(registry.sessionsOf("user-" + user)).isEmpty();
+            }
+            for (int community = 0; community < COMMUNITIES; community++) {
+                assertThat(registry.membersOf("community-" + community)).isEmpty();
+            }
+            assertThat((Map<?, ?>) ReflectionTestUtils.getField(registry, "sessionsByUser")).isEmpty();
+            assertThat((Map<?, ?>) ReflectionTestUtils.getField(registry, "communityMembers")).isEmpty();
+            assertThat((Map<?, ?>) ReflectionTestUtils.getField(registry, "userCommunities")).isEmpty();
+        }
+    }
+
+    private void runConcurrently(List<WebSocketSession> sessions, SessionStep step) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (WebSocketSession session : sessions) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                step.run(session);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static WebSocketSession session(String sessionId, String userId) {
+        Map<String, Object> attributes = new ConcurrentHashMap<>();
+        attributes.put(JwtHandshakeInterceptor.PRINCIPAL_ATTRIBUTE, userId);
+        attributes.put(JwtHandshakeInterceptor.EXPIRES_AT_ATTRIBUTE, Instant.now().plus(1, ChronoUnit.HOURS));
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.getAttributes()).thenReturn(attributes);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    @FunctionalInterface
+    private interface SessionStep {
+        void run(WebSocketSession session) throws Exception;
+    }
+}
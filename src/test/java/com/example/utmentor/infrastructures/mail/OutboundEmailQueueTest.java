@@ -0,0 +1,169 @@
+package com.example.utmentor.infrastructures.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.example.utmentor.models.docEntities.Mail.OutboundEmail;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Drives the queue against a GreenMail SMTP server and an in-process mongo-java-server.
+ * The scheduler is not running here; tests call {@link OutboundEmailQueue#pollDue()} themselves.
+ */
+class OutboundEmailQueueTest {
+
+    private static final int BATCH_SIZE = 5;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private MongoServer mongoServer;
+
+    private MongoClient client;
+
+    private MongoTemplate mongoTemplate;
+
+    private GreenMail smtp;
+
+    private int smtpPort;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BatchRecordingMailSender mailSender = new BatchRecordingMailSender();
+
+    private OutboundEmailQueue queue;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mongoServer = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = mongoServer.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        mongoTemplate = new MongoTemplate(client, "utmentor-test");
+
+        try (ServerSocket socket = new ServerSocket(0)) {
+            smtpPort = socket.getLocalPort();
+        }
+        smtp = new GreenMail(new ServerSetup(smtpPort, "127.0.0.1", ServerSetup.PROTOCOL_SMTP));
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtpPort);
+
+        queue = new OutboundEmailQueue(mongoTemplate, mailSender, meterRegistry, "noreply@utmentor.test",
+                64, 1, BATCH_SIZE, MAX_ATTEMPTS, 50, 200, 300_000, 72);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.stop();
+        smtp.stop();
+        client.close();
+        mongoServer.shutdownNow();
+    }
+
+    @Test
+    void sendsQueuedMessagesInBatchesAndDropsTheirParams() {
+        smtp.start();
+        for (int i = 0; i < 12; i++) {
+            queue.enqueue("student" + i + "@hcmut.edu.vn", EmailTemplate.OTP_VERIFICATION, Map.of("otp", "12345" + i));
+        }
+        // everything is already buffered; the poller must not offer it a second time
+        queue.pollDue();
+        assertThat(meterRegistry.get("mail.outbound.buffer.depth").gauge().value()).isEqualTo(12);
+
+        queue.start();
+
+        await().atMost(Duration.ofSeconds(20)).until(() -> smtp.getReceivedMessages().length == 12);
+        await().atMost(Duration.ofSeconds(5)).until(() -> count(OutboundEmail.Status.SENT) == 12);
+        assertThat(mailSender.batchSizes).allMatch(size -> size <= BATCH_SIZE);
+        assertThat(mailSender.batchSizes).anyMatch(size -> size > 1);
+        assertThat(mailSender.batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(12);
+        for (OutboundEmail email : mongoTemplate.findAll(OutboundEmail.class)) {
+            assertThat(email.getParams()).isNull();
+            assertThat(email.getPurgeAt()).isAfter(email.getSentAt());
+        }
+    }
+
+    @Test
+    void retriesWithBackoffUntilTheServerAcceptsTheMessage() {
+        OutboundEmail email = queue.enqueue("tutor@hcmut.edu.vn", EmailTemplate.OTP_VERIFICATION, Map.of("otp", "654321"));
+        queue.start();
+
+        // SMTP is down: the first attempt fails and the message is rescheduled, not dropped
+        await().atMost(Duration.ofSeconds(20)).until(() -> reload(email).getAttempts() == 1);
+        OutboundEmail retrying = reload(email);
+        assertThat(retrying.getStatus()).isEqualTo(OutboundEmail.Status.PENDING);
+        assertThat(retrying.getNextAttemptAt()).isAfter(retrying.getClaimedAt());
+        assertThat(retrying.getLastError()).isNotBlank();
+        assertThat(retrying.getParams()).containsEntry("otp", "654321");
+
+        smtp.start();
+        await().atMost(Duration.ofSeconds(20)).until(() -> {
+            queue.pollDue();
+            return reload(email).getStatus() == OutboundEmail.Status.SENT;
+        });
+        assertThat(smtp.getReceivedMessages()).hasSize(1);
+        assertThat(reload(email).getAttempts()).isEqualTo(1);
+        assertThat(reload(email).getLastError()).isNull();
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        OutboundEmail email = queue.enqueue("tutor@hcmut.edu.vn", EmailTemplate.OTP_VERIFICATION, Map.of("otp", "111111"));
+        queue.start();
+
+        await().atMost(Duration.ofSeconds(20)).until(() -> {
+            queue.pollDue();
+            return reload(email).getStatus() == OutboundEmail.Status.FAILED;
+        });
+        OutboundEmail failed = reload(email);
+        assertThat(failed.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(failed.getParams()).isNull();
+        assertThat(failed.getPurgeAt()).isNotNull();
+        assertThat(mailSender.batchSizes).hasSize(MAX_ATTEMPTS);
+    }
+
+    private OutboundEmail reload(OutboundEmail email) {
+        return mongoTemplate.findById(email.getId(), OutboundEmail.class);
+    }
+
+    private long count(OutboundEmail.Status status) {
+        return mongoTemplate.count(new Query(Criteria.where("status").is(status)), OutboundEmail.class);
+    }
+
+    /**
+     * Records how many messages each send call carried, i.e. each SMTP connection.
+     */
+    private static final class BatchRecordingMailSender extends JavaMailSenderImpl {
+
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(MimeMessage... mimeMessages) throws MailException {
+            batchSizes.add(mimeMessages.length);
+            super.send(mimeMessages);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.utmentor.infrastructures.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationDispatcherTest {
+
+    private final NotificationDispatcher dispatcher = new NotificationDispatcher(new SimpleMeterRegistry(), 4, 1000, 200);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void orderedTasksRunInSubmissionOrderPerKey() throws Exception {
+        Map<String, List<Integer>> seen = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String key = "user-" + (i % 3);
+            int seq = i;
+            futures.add(dispatcher.submitOrdered(key, "task " + i, () -> {
+                sleepBriefly();
+                seen.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(seq);
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        assertThat(seen).hasSize(3);
+        seen.values().forEach(order -> assertThat(order).isSorted());
+    }
+
+    @Test
+    void failedTaskDoesNotBlockItsLane() throws Exception {
+        List<String> ran = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> failed = dispatcher.submitOrdered("user", "boom", () -> {
+            throw new IllegalStateException("boom");
+        });
+        dispatcher.submitOrdered("user", "after", () -> ran.add("after")).get(10, TimeUnit.SECONDS);
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(ran).containsExactly("after");
+    }
+
+    private static void sleepBriefly() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.utmentor.infrastructures.repository.Interface;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.example.utmentor.infrastructures.search.TutorProfileChangedEvent;
+import com.example.utmentor.models.docEntities.users.TutorProfile;
+import com.example.utmentor.models.docEntities.users.TutorSearchView;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+class TutorSearchViewRepositoryTest {
+
+    private static final String TUTOR_ID = "tutor-1";
+
+    private MongoServer server;
+
+    private MongoClient client;
+
+    private MongoTemplate mongoTemplate;
+
+    private TutorSearchViewRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        mongoTemplate = new MongoTemplate(client, "utmentor-test");
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByIdIn(any())).thenReturn(List.of());
+        // a long coalescing window, so the test decides when the batch is applied
+        repository = new TutorSearchViewRepository(mongoTemplate, userRepository, true, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.shutdown();
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    void coalescedEventsWriteTheLatestProfile() {
+        mongoTemplate.insert(new TutorProfile(TUTOR_ID, new ArrayList<>(), true, 2, 1));
+        repository.onTutorProfileChanged(new TutorProfileChangedEvent(TUTOR_ID));
+        TutorProfile full = mongoTemplate.findById(TUTOR_ID, TutorProfile.class);
+        full.setCurrentMenteeCount(2);
+        mongoTemplate.save(full);
+        repository.onTutorProfileChanged(new TutorProfileChangedEvent(TUTOR_ID));
+
+        repository.applyPending();
+
+        TutorSearchView view = mongoTemplate.findById(TUTOR_ID, TutorSearchView.class);
+        assertThat(view.getCurrentMenteeCount()).isEqualTo(2);
+        assertThat(view.isAcceptingMentees()).isFalse();
+    }
+
+    @Test
+    void removesTheViewOfADeletedProfile() {
+        mongoTemplate.insert(new TutorProfile(TUTOR_ID, new ArrayList<>(), true, 2, 0));
+        repository.onTutorProfileChanged(new TutorProfileChangedEvent(TUTOR_ID));
+        repository.applyPending();
+        assertThat(mongoTemplate.findById(TUTOR_ID, TutorSearchView.class)).isNotNull();
+
+        mongoTemplate.remove(mongoTemplate.findById(TUTOR_ID, TutorProfile.class));
+        repository.onTutorProfileChanged(new TutorProfileChangedEvent(TUTOR_ID));
+        repository.applyPending();
+
+        assertThat(mongoTemplate.findById(TUTOR_ID, TutorSearchView.class)).isNull();
+    }
+
+    @Test
+    void reconcileRepairsAViewThatMissedItsEvent() {
+        mongoTemplate.insert(new TutorProfile(TUTOR_ID, new ArrayList<>(), true, 2, 0));
+        repository.rebuildAll();
+        TutorProfile full = mongoTemplate.findById(TUTOR_ID, TutorProfile.class);
+        full.setCurrentMenteeCount(2);
+        mongoTemplate.save(full);
+
+        repository.rebuildAll();
+
+        assertThat(mongoTemplate.findById(TUTOR_ID, TutorSearchView.class).isAcceptingMentees()).isFalse();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.utmentor.infrastructures.securities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.utmentor.util.ServiceBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    // never finishes on its own; only an interrupt (i.e. cancellation) releases it
+    private final PasswordEncoder stuckEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "never";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    };
+
+    private final PasswordHashingService service =
+            new PasswordHashingService(stuckEncoder, new SimpleMeterRegistry(), 10, 1, 4, 100);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void slowHashFailsAsBusyAfterMaxWaitAndIsCancelled() throws InterruptedException {
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> service.hash("secret")).isInstanceOf(ServiceBusyException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.utmentor.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.utmentor.infrastructures.cache.PageTotalCache;
+import com.example.utmentor.infrastructures.repository.Interface.DatacoreQueryRepository;
+import com.example.utmentor.infrastructures.repository.Interface.TutorSearchViewRepository;
+import com.example.utmentor.infrastructures.search.TutorProfilesProvisionedEvent;
+import com.example.utmentor.models.docEntities.Department;
+import com.example.utmentor.models.docEntities.Role;
+import com.example.utmentor.models.docEntities.HCMUT_DATACORE.Datacore;
+import com.example.utmentor.models.docEntities.users.TutorProfile;
+import com.example.utmentor.models.docEntities.users.User;
+import com.example.utmentor.models.webModels.datacore.ProvisionAccountsRequest;
+import com.example.utmentor.util.ValidatorException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+class AccountProvisioningServiceTest {
+
+    private MongoServer server;
+
+    private MongoClient client;
+
+    private MongoTemplate mongoTemplate;
+
+    private final DatacoreQueryRepository datacoreQueryRepository = mock(DatacoreQueryRepository.class);
+
+    private final TutorSearchViewRepository tutorSearchViewRepository = mock(TutorSearchViewRepository.class);
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+
+    private AccountProvisioningService provisioningService;
+
+    private String lastJobId;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        mongoTemplate = new MongoTemplate(client, "utmentor-test");
+
+        DatacoreService datacoreService = mock(DatacoreService.class);
+        when(datacoreService.parseFilter(any(), any(), anyBoolean()))
+                .thenReturn(new DatacoreQueryRepository.Filter(null, null, false));
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+
+        provisioningService = new AccountProvisioningService(datacoreService, datacoreQueryRepository,
+                tutorSearchViewRepository, events::add, mock(PageTotalCache.class), mongoTemplate, passwordEncoder,
+                500, 1, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        provisioningService.shutdown();
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    void rerunAnnouncesTutorProfilesOfAccountsFromAnEarlierRun() {
+        Datacore returning = tutor("dc-1", "returning@hcmut.edu.vn");
+        Datacore fresh = tutor("dc-2", "fresh@hcmut.edu.vn");
+        // an earlier run created the account but not its tutor profile
+        String returningId = AccountProvisioningService.userIdFor(returning);
+        mongoTemplate.insert(new User(returningId, "Binh", "Tran", Department.CS, List.of(Role.TUTOR),
+                "returning", null, "hash"));
+        when(datacoreQueryRepository.stream(any(), anyInt(), anyBoolean()))
+                .thenReturn(Stream.of(returning, fresh));
+
+        runJob();
+
+        String freshId = AccountProvisioningService.userIdFor(fresh);
+        assertThat(mongoTemplate.findById(returningId, TutorProfile.class)).isNotNull();
+        assertThat(mongoTemplate.findById(freshId, TutorProfile.class)).isNotNull();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TutorProfile>> profiles = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, User>> users = ArgumentCaptor.forClass(Map.class);
+        verify(tutorSearchViewRepository, times(1)).refreshAll(profiles.capture(), users.capture());
+        assertThat(profiles.getValue()).extracting(TutorProfile::getId).containsExactlyInAnyOrder(returningId, freshId);
+        assertThat(users.getValue()).containsKeys(returningId, freshId);
+
+        assertThat(events).singleElement()
+                .isInstanceOfSatisfying(TutorProfilesProvisionedEvent.class, event ->
+                        assertThat(event.tutorIds()).containsExactlyInAnyOrder(returningId, freshId));
+    }
+
+    @Test
+    void secondRunAnnouncesNothing() {
+        Datacore tutor = tutor("dc-1", "tutor@hcmut.edu.vn");
+        when(datacoreQueryRepository.stream(any(), anyInt(), anyBoolean()))
+                .thenAnswer(invocation -> Stream.of(tutor));
+
+        runJob();
+        runJob();
+
+        assertThat(provisioningService.getJob(lastJobId).alreadyProvisioned()).isEqualTo(1);
+        verify(tutorSearchViewRepository, times(1)).refreshAll(any(), any());
+        assertThat(events).hasSize(1);
+    }
+
+    private void runJob() {
+        // the previous job reports completion just before it releases the single-run guard
+        await().atMost(Duration.ofSeconds(10)).ignoreException(ValidatorException.class).until(() -> {
+            lastJobId = provisioningService.start(new ProvisionAccountsRequest(null, null, null)).jobId();
+            return true;
+        });
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> !"RUNNING".equals(provisioningService.getJob(lastJobId).status()));
+    }
+
+    private static Datacore tutor(String id, String email) {
+        return new Datacore(id, "Binh", "Tran", Department.CS, List.of(Role.TUTOR), email, null, null);
+    }
+}
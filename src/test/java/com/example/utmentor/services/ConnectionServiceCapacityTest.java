@@ -0,0 +1,153 @@
+package com.example.utmentor.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.utmentor.infrastructures.cache.ConnectionStatusCache;
+import com.example.utmentor.infrastructures.repository.Interface.ConnectionRepository;
+import com.example.utmentor.infrastructures.repository.Interface.TutorProfileRepository;
+import com.example.utmentor.models.docEntities.Connection.Connection;
+import com.example.utmentor.models.docEntities.Connection.StatusRequest;
+import com.example.utmentor.models.docEntities.users.TutorProfile;
+import com.example.utmentor.util.Errors;
+import com.example.utmentor.util.ValidatorException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * Fires concurrent accepts at a tutor with limited capacity and checks that the guarded
+ * reservation never overbooks. The reservation is a pipeline update, which the in-process
+ * mongo-java-server cannot run, so this goes against a real mongod in a container and is
+ * skipped where Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ConnectionServiceCapacityTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static final String TUTOR_ID = "tutor-1";
+
+    private static final int CAPACITY = 3;
+
+    private static final int REQUESTS = 300;
+
+    private MongoClient client;
+
+    private MongoTemplate mongoTemplate;
+
+    private ConnectionService connectionService;
+
+    @BeforeEach
+    void setUp() {
+        client = MongoClients.create(MONGO.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(client, "utmentor-test");
+
+        ApplicationEventPublisher noEvents = event -> { };
+        ConnectionRepository connectionRepository =
+                new ConnectionRepository(mongoTemplate, mock(ConnectionStatusCache.class));
+        TutorProfileRepository tutorProfileRepository = new TutorProfileRepository();
+        ReflectionTestUtils.setField(tutorProfileRepository, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(tutorProfileRepository, "eventPublisher", noEvents);
+
+        connectionService = new ConnectionService();
+        ReflectionTestUtils.setField(connectionService, "connectionRepository", connectionRepository);
+        ReflectionTestUtils.setField(connectionService, "tutorProfileRepository", tutorProfileRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.getDb().drop();
+        client.close();
+    }
+
+    @Test
+    void concurrentAcceptsNeverExceedCapacity() throws Exception {
+        mongoTemplate.insert(new TutorProfile(TUTOR_ID, new ArrayList<>(), true, CAPACITY, 0));
+        for (int i = 0; i < REQUESTS; i++) {
+            mongoTemplate.insert(new Connection("connection-" + i, TUTOR_ID, "student-" + i,
+                    StatusRequest.PENDING, "Xin chào", Instant.now()));
+        }
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger atCapacity = new AtomicInteger();
+        AtomicInteger highestCount = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(REQUESTS + 1);
+        try {
+            Future<?> sampler = pool.submit(() -> {
+                while (!done.get()) {
+                    highestCount.accumulateAndGet(currentMenteeCount(), Math::max);
+                }
+            });
+
+            List<Future<?>> accepts = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                String connectionId = "connection-" + i;
+                accepts.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        connectionService.acceptConnection(TUTOR_ID, connectionId);
+                        accepted.incrementAndGet();
+                    } catch (ValidatorException e) {
+                        if (e.getErrors().contains(Errors.TUTOR_AT_CAPACITY)) {
+                            atCapacity.incrementAndGet();
+                        } else {
+                            throw e;
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> accept : accepts) {
+                accept.get(30, TimeUnit.SECONDS);
+            }
+            done.set(true);
+            sampler.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(accepted.get()).isEqualTo(CAPACITY);
+        assertThat(atCapacity.get()).isEqualTo(REQUESTS - CAPACITY);
+        assertThat(highestCount.get()).isLessThanOrEqualTo(CAPACITY);
+
+        TutorProfile tutor = mongoTemplate.findById(TUTOR_ID, TutorProfile.class);
+        assertThat(tutor.getCurrentMenteeCount()).isEqualTo(CAPACITY);
+        assertThat(tutor.isAcceptingMentees()).isFalse();
+        assertThat(mongoTemplate.count(new Query(Criteria.where("tutorId").is(TUTOR_ID)
+                .and("status").is(StatusRequest.ACCEPTED)), Connection.class)).isEqualTo(CAPACITY);
+    }
+
+    private int currentMenteeCount() {
+        TutorProfile tutor = mongoTemplate.findById(TUTOR_ID, TutorProfile.class);
+        return tutor.getCurrentMenteeCount();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.utmentor.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+
+import com.example.utmentor.config.Mongo.MongoIndexConfig;
+import com.example.utmentor.infrastructures.cache.PageTotalCache;
+import com.example.utmentor.models.docEntities.Department;
+import com.example.utmentor.models.docEntities.Role;
+import com.example.utmentor.models.docEntities.HCMUT_DATACORE.Datacore;
+import com.example.utmentor.models.docEntities.HCMUT_DATACORE.DatacoreImportCheckpoint;
+import com.example.utmentor.models.webModels.datacore.DatacoreImportResponse;
+import com.example.utmentor.util.Errors;
+import com.example.utmentor.util.ValidatorException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import jakarta.validation.Validation;
+
+class DatacoreImportServiceTest {
+
+    private MongoServer server;
+
+    private MongoClient client;
+
+    private MongoTemplate mongoTemplate;
+
+    private DatacoreImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        mongoTemplate = new MongoTemplate(client, "utmentor-test");
+        importService = new DatacoreImportService(mongoTemplate,
+                Validation.buildDefaultValidatorFactory().getValidator(), mock(PageTotalCache.class), 500, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    void refusesToImportWithoutTheUniqueEmailIndex() {
+        mongoTemplate.insert(datacore("2110001", "same@hcmut.edu.vn"));
+        mongoTemplate.insert(datacore("2110002", "same@hcmut.edu.vn"));
+        new MongoIndexConfig(mongoTemplate).ensureIndexes();
+
+        assertThatThrownBy(() -> importService.importStream(
+                csv("firstName,lastName,department,role,email\nAn,Nguyen,CS,STUDENT,an@hcmut.edu.vn\n"),
+                DatacoreImportService.Format.CSV, null))
+                .isInstanceOfSatisfying(ValidatorException.class, e -> {
+                    assertThat(e.getErrors()).contains(Errors.DATACORE_EMAIL_INDEX_MISSING);
+                    assertThat(e.getHttpCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+                });
+        assertThat(mongoTemplate.count(new Query(), DatacoreImportCheckpoint.class)).isZero();
+    }
+
+    @Test
+    void readsCsvHeaderAfterByteOrderMark() throws Exception {
+        new MongoIndexConfig(mongoTemplate).ensureIndexes();
+
+        DatacoreImportResponse response = importService.importStream(
+                csv("\uFEFFfirstName,lastName,department,role,email\n"
+                        + "An,Nguyen,CS,STUDENT,an@hcmut.edu.vn\n"
+                        + "Binh,Tran,EE,TUTOR;STUDENT,binh@hcmut.edu.vn\n"
+                        + "An,Nguyen,CS,STUDENT,an@hcmut.edu.vn\n"),
+                DatacoreImportService.Format.CSV, null);
+
+        assertThat(response.rowsRead()).isEqualTo(3);
+        assertThat(response.inserted()).isEqualTo(2);
+        assertThat(response.duplicates()).isEqualTo(1);
+        assertThat(response.invalid()).isZero();
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Datacore datacore(String id, String email) {
+        return new Datacore(id, "An", "Nguyen", Department.CS, List.of(Role.STUDENT), email, null, null);
+    }
+}
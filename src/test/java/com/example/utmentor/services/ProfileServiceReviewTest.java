@@ -0,0 +1,110 @@
+package com.example.utmentor.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.utmentor.infrastructures.cache.UserSummaryCache;
+import com.example.utmentor.infrastructures.repository.Interface.ConnectionRepository;
+import com.example.utmentor.infrastructures.repository.Interface.RatingRepository;
+import com.example.utmentor.infrastructures.repository.Interface.TutorProfileRepository;
+import com.example.utmentor.models.docEntities.Rating;
+import com.example.utmentor.models.docEntities.Connection.Connection;
+import com.example.utmentor.models.docEntities.Connection.StatusRequest;
+import com.example.utmentor.models.docEntities.users.UserSummary;
+import com.example.utmentor.models.webModels.profile.CreateReviewRequest;
+import com.example.utmentor.util.Errors;
+import com.example.utmentor.util.ValidatorException;
+
+class ProfileServiceReviewTest {
+
+    private static final String STUDENT_ID = "student-1";
+
+    private static final String TUTOR_ID = "tutor-1";
+
+    private final UserSummaryCache userSummaryCache = mock(UserSummaryCache.class);
+
+    private final TutorProfileRepository tutorProfileRepository = mock(TutorProfileRepository.class);
+
+    private final ConnectionRepository connectionRepository = mock(ConnectionRepository.class);
+
+    private final RatingRepository ratingRepository = mock(RatingRepository.class);
+
+    private final ProfileService profileService = new ProfileService();
+
+    private final CreateReviewRequest request = new CreateReviewRequest(TUTOR_ID, 5, "Rất tận tâm.");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(profileService, "userSummaryCache", userSummaryCache);
+        ReflectionTestUtils.setField(profileService, "tutorProfileRepository", tutorProfileRepository);
+        ReflectionTestUtils.setField(profileService, "connectionRepository", connectionRepository);
+        ReflectionTestUtils.setField(profileService, "ratingRepository", ratingRepository);
+
+        when(userSummaryCache.findById(STUDENT_ID)).thenReturn(Optional.of(
+                new UserSummary(STUDENT_ID, "An", "Nguyen", "an.nguyen", null, null, null, List.of())));
+        when(tutorProfileRepository.existsById(TUTOR_ID)).thenReturn(true);
+    }
+
+    @Test
+    void rejectsReviewWithoutAcceptedConnection() {
+        when(connectionRepository.findFirstByTutorIdAndStudentId(TUTOR_ID, STUDENT_ID))
+                .thenReturn(connection(StatusRequest.PENDING));
+
+        assertThatThrownBy(() -> profileService.createTutorReview(STUDENT_ID, request))
+                .isInstanceOfSatisfying(ValidatorException.class, e -> {
+                    assertThat(e.getErrors()).contains(Errors.REVIEW_NOT_ALLOWED);
+                    assertThat(e.getHttpCode()).isEqualTo(HttpStatus.FORBIDDEN);
+                });
+        verify(ratingRepository, never()).insertReview(any());
+    }
+
+    @Test
+    void secondReviewOfTheSameTutorIsAConflict() {
+        when(connectionRepository.findFirstByTutorIdAndStudentId(TUTOR_ID, STUDENT_ID))
+                .thenReturn(connection(StatusRequest.ACCEPTED));
+        when(ratingRepository.insertReview(any())).thenThrow(new DuplicateKeyException("reviewer_reviewee"));
+
+        assertThatThrownBy(() -> profileService.createTutorReview(STUDENT_ID, request))
+                .isInstanceOfSatisfying(ValidatorException.class, e -> {
+                    assertThat(e.getErrors()).contains(Errors.REVIEW_EXISTS);
+                    assertThat(e.getHttpCode()).isEqualTo(HttpStatus.CONFLICT);
+                });
+    }
+
+    @Test
+    void acceptedStudentCanReview() {
+        when(connectionRepository.findFirstByTutorIdAndStudentId(TUTOR_ID, STUDENT_ID))
+                .thenReturn(connection(StatusRequest.ACCEPTED));
+        when(ratingRepository.insertReview(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(profileService.createTutorReview(STUDENT_ID, request).rating()).isEqualTo(5);
+    }
+
+    @Test
+    void tutorWithoutHistogramHasZeroBuckets() {
+        when(tutorProfileRepository.findRatingHistogram(TUTOR_ID)).thenReturn(Optional.of(List.of(0, 0, 0, 0, 0)));
+
+        assertThat(profileService.getTutorRatingDistribution(TUTOR_ID))
+                .isEqualTo(Map.of(1, 0, 2, 0, 3, 0, 4, 0, 5, 0));
+    }
+
+    private static Connection connection(StatusRequest status) {
+        return new Connection("connection-1", TUTOR_ID, STUDENT_ID, status, "Xin chào", Instant.now());
+    }
+}